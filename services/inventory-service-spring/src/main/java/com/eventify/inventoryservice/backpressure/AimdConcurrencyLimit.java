@@ -0,0 +1,69 @@
+package com.eventify.inventoryservice.backpressure;
+
+/**
+ * Additive-increase / multiplicative-decrease limit on concurrently active consumers. Congestion backs the limit
+ * off by {@code backoffRatio} (never below {@code minLimit}), overload sheds everything, and every healthy sample
+ * lets one more consumer back in. Not thread-safe; {@link BackpressureController} drives it from one thread.
+ */
+class AimdConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private int limit;
+
+    AimdConcurrencyLimit(int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Need 1 <= minLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = maxLimit;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int update(LoadSample sample, Thresholds thresholds) {
+        if (thresholds.isOverloaded(sample)) {
+            limit = 0;
+        } else if (thresholds.isCongested(sample)) {
+            limit = Math.max(minLimit, Math.min(limit - 1, (int) (limit * backoffRatio)));
+        } else if (limit < maxLimit) {
+            limit++;
+        }
+        return limit;
+    }
+
+    /** What the pool and the listener saw since the previous sample. */
+    record LoadSample(int pendingConnections, double avgAcquireMs, double avgProcessingMs, long transientFailures) {
+    }
+
+    /**
+     * Congested: any thread waiting for a connection, a slow average acquire or slow processing, or a transient DB
+     * failure. Overloaded: acquire wait or the waiting-thread count past the shed thresholds, which is where
+     * connection timeouts and DLQ traffic start.
+     */
+    record Thresholds(double targetAcquireMs,
+                      double targetProcessingMs,
+                      double shedAcquireMs,
+                      int shedPendingConnections) {
+
+        boolean isCongested(LoadSample sample) {
+            return sample.pendingConnections() > 0
+                    || sample.avgAcquireMs() > targetAcquireMs
+                    || sample.avgProcessingMs() > targetProcessingMs
+                    || sample.transientFailures() > 0;
+        }
+
+        boolean isOverloaded(LoadSample sample) {
+            return sample.avgAcquireMs() > shedAcquireMs || sample.pendingConnections() >= shedPendingConnections;
+        }
+    }
+}
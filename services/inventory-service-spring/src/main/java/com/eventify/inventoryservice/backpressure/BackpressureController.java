@@ -0,0 +1,178 @@
+package com.eventify.inventoryservice.backpressure;
+
+import com.eventify.inventoryservice.backpressure.AimdConcurrencyLimit.LoadSample;
+import com.eventify.inventoryservice.backpressure.AimdConcurrencyLimit.Thresholds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Adapts how many OrderPlaced consumer threads run to what the database can absorb. Every tick it samples the
+ * Hikari pool (threads waiting for a connection, average acquire time) and the listener's own processing latency
+ * and transient failures, feeds them to an {@link AimdConcurrencyLimit}, and pauses the child consumers beyond the
+ * limit, rotating which ones run so no partition is starved. A paused consumer keeps polling, so it stays in the
+ * group and its partitions are not rebalanced away; records already fetched are finished first, which is why
+ * {@code max-poll-records} is kept small.
+ */
+@Component
+public class BackpressureController {
+
+    public static final String LISTENER_ID = "inventory-order-placed";
+
+    private static final Logger log = LoggerFactory.getLogger(BackpressureController.class);
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Thresholds thresholds;
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong processedNanos = new AtomicLong();
+    private final AtomicLong transientFailures = new AtomicLong();
+    private final AtomicInteger currentLimit = new AtomicInteger(-1);
+    private final AtomicInteger pausedConsumers = new AtomicInteger();
+    private final Counter congestionCounter;
+    private final Counter shedCounter;
+
+    @Value("${app.backpressure.min-consumers:1}")
+    private int minConsumers;
+
+    @Value("${app.backpressure.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    private AimdConcurrencyLimit limit;
+    private int rotation;
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+
+    public BackpressureController(KafkaListenerEndpointRegistry listenerRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.backpressure.enabled:true}") boolean enabled,
+                                  @Value("${app.backpressure.target-acquire-ms:20}") double targetAcquireMs,
+                                  @Value("${app.backpressure.target-processing-ms:250}") double targetProcessingMs,
+                                  @Value("${app.backpressure.shed-acquire-ms:1000}") double shedAcquireMs,
+                                  @Value("${app.backpressure.shed-pending-connections:10}") int shedPendingConnections) {
+        this.listenerRegistry = listenerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.thresholds = new Thresholds(targetAcquireMs, targetProcessingMs, shedAcquireMs, shedPendingConnections);
+        this.congestionCounter = Counter.builder("inventory.backpressure.congested")
+                .description("Samples that backed the consumer limit off")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("inventory.backpressure.shed")
+                .description("Samples that paused every consumer")
+                .register(meterRegistry);
+        Gauge.builder("inventory.backpressure.limit", currentLimit, AtomicInteger::get)
+                .description("Consumers currently allowed to run")
+                .register(meterRegistry);
+        Gauge.builder("inventory.backpressure.paused", pausedConsumers, AtomicInteger::get)
+                .description("Consumers currently paused by backpressure")
+                .register(meterRegistry);
+    }
+
+    public void recordProcessed(long nanos) {
+        processedCount.incrementAndGet();
+        processedNanos.addAndGet(nanos);
+    }
+
+    /** Counts failures that mean the database is struggling rather than the event being bad. */
+    public void recordFailure(Throwable failure) {
+        if (failure instanceof TransientDataAccessException || failure instanceof CannotCreateTransactionException) {
+            transientFailures.incrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.backpressure.interval-ms:500}")
+    public void adjust() {
+        if (!enabled) {
+            return;
+        }
+
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (!(container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent) || !container.isRunning()) {
+            return;
+        }
+
+        List<? extends MessageListenerContainer> consumers = concurrent.getContainers();
+        if (limit == null) {
+            limit = new AimdConcurrencyLimit(Math.min(minConsumers, consumers.size()), consumers.size(), backoffRatio);
+        }
+
+        LoadSample sample = sample();
+        int previous = limit.limit();
+        int allowed = limit.update(sample, thresholds);
+        if (thresholds.isOverloaded(sample)) {
+            shedCounter.increment();
+        } else if (thresholds.isCongested(sample)) {
+            congestionCounter.increment();
+        }
+
+        apply(consumers, allowed);
+        currentLimit.set(allowed);
+        if (allowed != previous) {
+            log.info("Backpressure limit {} -> {} pendingConnections={} avgAcquireMs={} avgProcessingMs={} transientFailures={}",
+                    previous, allowed, sample.pendingConnections(), Math.round(sample.avgAcquireMs()),
+                    Math.round(sample.avgProcessingMs()), sample.transientFailures());
+        }
+    }
+
+    private void apply(List<? extends MessageListenerContainer> consumers, int allowed) {
+        int size = consumers.size();
+        rotation = allowed > 0 && allowed < size ? (rotation + 1) % size : 0;
+
+        int paused = 0;
+        for (int i = 0; i < size; i++) {
+            MessageListenerContainer consumer = consumers.get(i);
+            boolean run = Math.floorMod(i - rotation, size) < allowed;
+            if (run && consumer.isPauseRequested()) {
+                consumer.resume();
+            } else if (!run && !consumer.isPauseRequested()) {
+                consumer.pause();
+            }
+            if (!run) {
+                paused++;
+            }
+        }
+        pausedConsumers.set(paused);
+    }
+
+    private LoadSample sample() {
+        long count = processedCount.getAndSet(0);
+        long nanos = processedNanos.getAndSet(0);
+        double avgProcessingMs = count == 0 ? 0 : nanos / 1_000_000.0 / count;
+
+        Gauge pending = meterRegistry.find("hikaricp.connections.pending").gauge();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        double avgAcquireMs = 0;
+        if (acquire != null) {
+            long acquireCount = acquire.count();
+            double acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+            if (acquireCount > lastAcquireCount) {
+                avgAcquireMs = (acquireNanos - lastAcquireNanos) / 1_000_000.0 / (acquireCount - lastAcquireCount);
+            }
+            lastAcquireCount = acquireCount;
+            lastAcquireNanos = acquireNanos;
+        }
+
+        return new LoadSample(
+                pending == null ? 0 : (int) pending.value(),
+                avgAcquireMs,
+                avgProcessingMs,
+                transientFailures.getAndSet(0)
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package com.eventify.inventoryservice.changelog;
+
+import com.eventify.inventoryservice.changelog.StockChangelogStore.Mark;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import com.eventify.inventoryservice.messaging.InventoryEventFactory;
+import com.eventify.inventoryservice.service.StockLevelsChangedEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes per-SKU stock snapshots, keyed by SKU, to the compacted inventory.stock topic. A stock change only
+ * leaves a mark in {@link StockChangelogStore}, inside its own transaction; whichever instance holds the writer
+ * lock reads the marked SKUs' current levels from the database and publishes them. With one writer at a time,
+ * each reading committed state after the previous writer's sends were acknowledged, a SKU's versions reach the
+ * topic in increasing order and compaction keeps the newest.
+ *
+ * <p>Marks for the same SKU are coalesced per flush, so a SKU reserved a thousand times in one window costs one
+ * message.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock-changelog.enabled", havingValue = "true", matchIfMissing = true)
+public class StockChangelogPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(StockChangelogPublisher.class);
+
+    private static final int SNAPSHOT_SEND_BATCH = 1000;
+
+    private final KafkaOperations<String, String> kafkaOperations;
+    private final InventoryEventFactory inventoryEventFactory;
+    private final StockLedger stockLedger;
+    private final StockChangelogStore stockChangelogStore;
+    private final TransactionTemplate writerTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.kafka.stock-topic:inventory.stock}")
+    private String stockTopic = "inventory.stock";
+
+    @Value("${app.stock-changelog.send-timeout-ms:10000}")
+    private long sendTimeoutMs = 10000;
+
+    @Value("${app.stock-changelog.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${app.stock-changelog.snapshot-on-startup:false}")
+    private boolean snapshotOnStartup;
+
+    @Value("${app.stock-changelog.snapshot-fetch-size:5000}")
+    private int snapshotFetchSize = 5000;
+
+    public StockChangelogPublisher(KafkaOperations<String, String> kafkaOperations,
+                                   InventoryEventFactory inventoryEventFactory,
+                                   StockLedger stockLedger,
+                                   StockChangelogStore stockChangelogStore,
+                                   PlatformTransactionManager transactionManager) {
+        this.kafkaOperations = kafkaOperations;
+        this.inventoryEventFactory = inventoryEventFactory;
+        this.stockLedger = stockLedger;
+        this.stockChangelogStore = stockChangelogStore;
+        this.writerTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /** Runs inside the transaction that changed the levels, so the mark commits or rolls back with them. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onStockLevelsChanged(StockLevelsChangedEvent event) {
+        Set<String> skus = new LinkedHashSet<>();
+        for (StockLevel level : event.levels()) {
+            skus.add(level.sku());
+        }
+        stockChangelogStore.mark(skus);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stock-changelog.flush-interval-ms:250}")
+    public void flush() {
+        Integer marks;
+        do {
+            marks = writerTransaction.execute(status -> flushBatch());
+        } while (marks != null && marks == batchSize);
+    }
+
+    /** Returns the number of marks read, or -1 when another instance is the writer or a send failed. */
+    private int flushBatch() {
+        if (!stockChangelogStore.lockWriter(false)) {
+            return -1;
+        }
+
+        List<Mark> marks = stockChangelogStore.oldest(batchSize);
+        if (marks.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> skus = new LinkedHashSet<>();
+        for (Mark mark : marks) {
+            skus.add(mark.sku());
+        }
+
+        List<StockLevel> levels = stockLedger.levels(skus);
+        Set<String> failed = new HashSet<>();
+        send(levels, failed);
+
+        List<Long> published = new ArrayList<>(marks.size());
+        for (Mark mark : marks) {
+            if (!failed.contains(mark.sku())) {
+                published.add(mark.id());
+            }
+        }
+        stockChangelogStore.delete(published);
+
+        if (!failed.isEmpty()) {
+            log.warn("Stock changelog flush incomplete sent={} failed={}", levels.size() - failed.size(), failed.size());
+            return -1;
+        }
+        return marks.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishSnapshot() {
+        if (!snapshotOnStartup) {
+            return;
+        }
+
+        AtomicLong published = new AtomicLong();
+        List<StockLevel> batch = new ArrayList<>(SNAPSHOT_SEND_BATCH);
+        Set<String> failed = new HashSet<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            stockChangelogStore.lockWriter(true);
+            stockLedger.streamLevels(snapshotFetchSize, level -> {
+                batch.add(level);
+                if (batch.size() == SNAPSHOT_SEND_BATCH) {
+                    published.addAndGet(send(batch, failed));
+                    batch.clear();
+                }
+            });
+            published.addAndGet(send(batch, failed));
+        });
+        if (!failed.isEmpty()) {
+            log.warn("Stock snapshot incomplete; {} skus failed to publish", failed.size());
+        }
+        log.info("Published stock snapshot to {} skus={}", stockTopic, published.get());
+    }
+
+    /** Sends every level and waits for the acknowledgements; adds the SKUs that failed to {@code failed}. */
+    private int send(List<StockLevel> levels, Set<String> failed) {
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(levels.size());
+        for (StockLevel level : levels) {
+            try {
+                sends.add(kafkaOperations.send(stockTopic, level.sku(), inventoryEventFactory.buildStockLevel(level)));
+            } catch (Exception ex) {
+                sends.add(CompletableFuture.failedFuture(ex));
+            }
+        }
+
+        int sent = 0;
+        for (int i = 0; i < levels.size(); i++) {
+            StockLevel level = levels.get(i);
+            try {
+                sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                sent++;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                for (StockLevel unsent : levels.subList(i, levels.size())) {
+                    failed.add(unsent.sku());
+                }
+                return sent;
+            } catch (Exception ex) {
+                log.error("Stock changelog publish failed sku={}", level.sku(), ex);
+                failed.add(level.sku());
+            }
+        }
+        return sent;
+    }
+}
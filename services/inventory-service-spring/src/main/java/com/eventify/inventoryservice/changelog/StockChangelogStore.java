@@ -0,0 +1,92 @@
+package com.eventify.inventoryservice.changelog;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Append-only marks of SKUs whose stock changed, written in the transaction that changed them. Inserts never
+ * conflict, so striped SKUs reserved concurrently do not queue on a shared row. The writer reads marks in id order
+ * and deletes exactly the ones it published; a mark committed late with a lower id is simply read next time.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.stock-changelog.enabled", havingValue = "true", matchIfMissing = true)
+public class StockChangelogStore {
+
+    static final String TABLE = "inventory_stock_changelog";
+
+    private static final String WRITER_LOCK = TABLE + ".writer";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockChangelogStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void createSchema() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class, TABLE);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                    + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "sku VARCHAR(255) NOT NULL"
+                    + ")");
+        });
+    }
+
+    public void mark(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO " + TABLE + " (sku) SELECT unnest(?::varchar[])");
+            statement.setArray(1, connection.createArrayOf("varchar", skus.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * Makes the calling transaction the only changelog writer until it ends. With {@code wait} false, returns
+     * {@code false} at once if another instance holds it.
+     */
+    public boolean lockWriter(boolean wait) {
+        if (wait) {
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class, WRITER_LOCK);
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, WRITER_LOCK));
+    }
+
+    public List<Mark> oldest(int limit) {
+        return jdbcTemplate.query("SELECT id, sku FROM " + TABLE + " ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Mark(rs.getLong("id"), rs.getString("sku")), limit);
+    }
+
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM " + TABLE + " WHERE id = ANY (?)");
+            Array array = connection.createArrayOf("bigint", ids.toArray());
+            statement.setArray(1, array);
+            return statement;
+        });
+    }
+
+    public record Mark(long id, String sku) {
+    }
+}
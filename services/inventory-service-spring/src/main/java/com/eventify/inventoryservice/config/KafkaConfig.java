@@ -1,9 +1,18 @@
 package com.eventify.inventoryservice.config;
 
+import com.eventify.inventoryservice.backpressure.BackpressureController;
+import com.eventify.inventoryservice.rebalance.PartitionHandoffListener;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
 
 @Configuration
 public class KafkaConfig {
@@ -12,4 +21,38 @@ public class KafkaConfig {
     KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
+
+    /**
+     * Rebalance settings for the OrderPlaced listener only. It gets the handoff listener, a shutdown timeout long
+     * enough to finish an in-flight batch, and, when {@code app.kafka.instance-id} is set, static membership.
+     * Spring appends each child consumer's index to the instance id. A restart within {@code session.timeout.ms}
+     * then keeps the same partitions without any rebalance.
+     */
+    @Bean
+    ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> orderPlacedContainerCustomizer(
+            PartitionHandoffListener partitionHandoffListener,
+            @Value("${app.kafka.instance-id:}") String instanceId,
+            @Value("${app.kafka.shutdown-timeout-ms:30000}") long shutdownTimeoutMs) {
+        return container -> {
+            if (!BackpressureController.LISTENER_ID.equals(container.getListenerId())) {
+                return;
+            }
+
+            ContainerProperties properties = container.getContainerProperties();
+            properties.setConsumerRebalanceListener(partitionHandoffListener);
+            properties.setShutdownTimeout(shutdownTimeoutMs);
+            if (!instanceId.isBlank()) {
+                properties.getKafkaConsumerProperties().setProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, instanceId + "-orders");
+            }
+        };
+    }
+
+    @Bean
+    NewTopic stockTopic(@Value("${app.kafka.stock-topic:inventory.stock}") String stockTopic) {
+        return TopicBuilder.name(stockTopic)
+                .partitions(3)
+                .replicas(1)
+                .compact()
+                .build();
+    }
 }
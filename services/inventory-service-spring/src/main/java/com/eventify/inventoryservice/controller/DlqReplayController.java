@@ -0,0 +1,54 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.replay.DlqReplayJob;
+import com.eventify.inventoryservice.replay.DlqReplayRequest;
+import com.eventify.inventoryservice.replay.DlqReplayService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/inventory/dlq/replays")
+public class DlqReplayController {
+
+    private final DlqReplayService dlqReplayService;
+
+    public DlqReplayController(DlqReplayService dlqReplayService) {
+        this.dlqReplayService = dlqReplayService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public DlqReplayJob start(@RequestBody DlqReplayRequest request) {
+        try {
+            return dlqReplayService.submit(request);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    @GetMapping
+    public List<DlqReplayJob> list() {
+        return dlqReplayService.list();
+    }
+
+    @GetMapping("/{jobId}")
+    public DlqReplayJob get(@PathVariable String jobId) {
+        return dlqReplayService.find(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown replay " + jobId));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public DlqReplayJob cancel(@PathVariable String jobId) {
+        return dlqReplayService.cancel(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown replay " + jobId));
+    }
+}
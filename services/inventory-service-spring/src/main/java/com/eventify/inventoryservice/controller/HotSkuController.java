@@ -0,0 +1,32 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.profiling.HotSkuReport;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/inventory/diagnostics")
+public class HotSkuController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final HotSkuProfiler hotSkuProfiler;
+
+    public HotSkuController(HotSkuProfiler hotSkuProfiler) {
+        this.hotSkuProfiler = hotSkuProfiler;
+    }
+
+    @GetMapping("/hot-skus")
+    public HotSkuReport hotSkus(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return hotSkuProfiler.report(limit);
+    }
+}
@@ -0,0 +1,51 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.service.StockQueryService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/inventory")
+public class InventoryController {
+
+    private final StockQueryService stockQueryService;
+
+    @Value("${app.stock-query.max-bulk-skus:500}")
+    private int maxBulkSkus;
+
+    public InventoryController(StockQueryService stockQueryService) {
+        this.stockQueryService = stockQueryService;
+    }
+
+    @GetMapping("/{sku}")
+    public StockLevelResponse get(@PathVariable String sku) {
+        return stockQueryService.find(sku)
+                .map(StockLevelResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown sku " + sku));
+    }
+
+    @PostMapping("/availability")
+    public List<StockLevelResponse> availability(@RequestBody StockAvailabilityRequest request) {
+        if (request.skus() == null || request.skus().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "skus is required");
+        }
+
+        LinkedHashSet<String> skus = new LinkedHashSet<>(request.skus());
+        if (skus.size() > maxBulkSkus) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxBulkSkus + " skus per request");
+        }
+
+        return stockQueryService.findAll(skus).stream()
+                .map(StockLevelResponse::from)
+                .toList();
+    }
+}
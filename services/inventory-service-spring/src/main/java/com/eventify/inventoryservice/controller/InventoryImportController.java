@@ -0,0 +1,36 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.importer.ImportFormat;
+import com.eventify.inventoryservice.importer.ImportMode;
+import com.eventify.inventoryservice.importer.ImportReport;
+import com.eventify.inventoryservice.importer.InventoryImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.sql.SQLException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/inventory/imports")
+public class InventoryImportController {
+
+    private final InventoryImportService inventoryImportService;
+
+    public InventoryImportController(InventoryImportService inventoryImportService) {
+        this.inventoryImportService = inventoryImportService;
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ImportReport importCsv(@RequestParam(defaultValue = "SET") ImportMode mode,
+                                  HttpServletRequest request) throws IOException, SQLException {
+        return inventoryImportService.importStream(request.getInputStream(), ImportFormat.CSV, mode);
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ImportReport importNdjson(@RequestParam(defaultValue = "SET") ImportMode mode,
+                                     HttpServletRequest request) throws IOException, SQLException {
+        return inventoryImportService.importStream(request.getInputStream(), ImportFormat.NDJSON, mode);
+    }
+}
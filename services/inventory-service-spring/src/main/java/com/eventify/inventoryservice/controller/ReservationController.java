@@ -0,0 +1,49 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore.ReservationRecord;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Reservation lookups. Every route has at least three path segments so none can be shadowed by, or shadow,
+ * {@code GET /inventory/{sku}}.
+ */
+@RestController
+@RequestMapping("/inventory/reservations")
+public class ReservationController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ReservationStore reservationStore;
+
+    public ReservationController(ReservationStore reservationStore) {
+        this.reservationStore = reservationStore;
+    }
+
+    @GetMapping("/{orderId}")
+    public List<ReservationRecord> byOrder(@PathVariable String orderId) {
+        List<ReservationRecord> records = reservationStore.findByOrder(orderId);
+        if (records.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No reservation for order " + orderId);
+        }
+
+        return records;
+    }
+
+    @GetMapping("/by-sku/{sku}")
+    public List<ReservationRecord> reservedBySku(@PathVariable String sku,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return reservationStore.findReservedBySku(sku, limit);
+    }
+}
@@ -0,0 +1,6 @@
+package com.eventify.inventoryservice.controller;
+
+import java.util.List;
+
+public record StockAvailabilityRequest(List<String> skus) {
+}
@@ -0,0 +1,10 @@
+package com.eventify.inventoryservice.controller;
+
+import com.eventify.inventoryservice.domain.StockLevel;
+
+public record StockLevelResponse(String sku, int availableQty, boolean inStock) {
+
+    static StockLevelResponse from(StockLevel level) {
+        return new StockLevelResponse(level.sku(), level.availableQty(), level.availableQty() > 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.eventify.inventoryservice.dedupe;
+
+import com.eventify.inventoryservice.domain.ProcessedEventPartitionMaintainer;
+import com.eventify.inventoryservice.domain.ProcessedEventStore;
+import com.eventify.inventoryservice.messaging.InvalidEventException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Two-tier dedupe in front of {@link ProcessedEventStore}. The in-memory tiers only ever answer "already
+ * processed" for eventIds whose processed row is known to be committed; every other event goes to the table,
+ * which stays the single source of truth.
+ */
+@Component
+public class EventDeduplicator {
+
+    private final ProcessedEventStore processedEventStore;
+    private final ProcessedEventPartitionMaintainer partitionMaintainer;
+    private final RotatingBloomFilter bloomFilter;
+    private final RecentEventIds recentEventIds;
+
+    private final Counter shortCircuited;
+    private final Counter storeLookups;
+
+    public EventDeduplicator(ProcessedEventStore processedEventStore,
+                             ProcessedEventPartitionMaintainer partitionMaintainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.dedupe.recent-cache-size:100000}") int recentCacheSize,
+                             @Value("${app.dedupe.bloom-expected-insertions:1000000}") int bloomExpectedInsertions,
+                             @Value("${app.dedupe.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate) {
+        this.processedEventStore = processedEventStore;
+        this.partitionMaintainer = partitionMaintainer;
+        this.bloomFilter = new RotatingBloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+        this.recentEventIds = new RecentEventIds(recentCacheSize);
+        this.shortCircuited = lookupCounter(meterRegistry, "memory");
+        this.storeLookups = lookupCounter(meterRegistry, "store");
+    }
+
+    /**
+     * Records the event as processed within the current transaction.
+     *
+     * @return {@code true} the first time an eventId is seen, {@code false} for a duplicate
+     * @throws InvalidEventException if {@code occurredAt} is beyond {@code app.dedupe.premake-days} or older than
+     *         {@code app.dedupe.retention-days}; such an event could not be deduped consistently across
+     *         redeliveries, so it is dead-lettered instead
+     */
+    public boolean markProcessed(String eventId, String occurredAt) {
+        // The Bloom filter is lock-free, so first-time events (the common case) never touch the LRU lock.
+        if (bloomFilter.mightContain(eventId) && recentEventIds.contains(eventId)) {
+            shortCircuited.increment();
+            return false;
+        }
+
+        LocalDate occurredOn = occurredOn(occurredAt);
+        if (partitionMaintainer.isBeyondPremakeWindow(occurredOn)) {
+            throw new InvalidEventException("occurredAt " + occurredAt + " is more than "
+                    + partitionMaintainer.premakeDays() + " days in the future", eventId, null, false);
+        }
+        if (partitionMaintainer.isBeyondRetentionWindow(occurredOn)) {
+            throw new InvalidEventException("occurredAt " + occurredAt + " is more than "
+                    + partitionMaintainer.retentionDays() + " days old, outside the dedupe window", eventId, null, false);
+        }
+
+        storeLookups.increment();
+        LocalDate partitionDay = partitionMaintainer.partitionDayFor(occurredOn);
+        boolean firstTime = processedEventStore.insertIfAbsent(eventId, partitionDay);
+        if (firstTime) {
+            rememberAfterCommit(eventId);
+        } else {
+            remember(eventId);
+        }
+
+        return firstTime;
+    }
+
+    public boolean isProcessed(String eventId) {
+        if (bloomFilter.mightContain(eventId) && recentEventIds.contains(eventId)) {
+            return true;
+        }
+
+        return processedEventStore.exists(eventId);
+    }
+
+    private void rememberAfterCommit(String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(eventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(eventId);
+            }
+        });
+    }
+
+    private void remember(String eventId) {
+        recentEventIds.add(eventId);
+        bloomFilter.put(eventId);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("inventory.dedupe.lookups")
+                .description("Dedupe checks by the tier that answered them")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    static LocalDate occurredOn(String occurredAt) {
+        return OffsetDateTime.parse(occurredAt).atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+}
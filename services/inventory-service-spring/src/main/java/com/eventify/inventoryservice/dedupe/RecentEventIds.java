@@ -0,0 +1,34 @@
+package com.eventify.inventoryservice.dedupe;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RecentEventIds {
+
+    private final Map<String, Boolean> entries;
+
+    public RecentEventIds(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized boolean contains(String eventId) {
+        return entries.get(eventId) != null;
+    }
+
+    public synchronized void add(String eventId) {
+        entries.put(eventId, Boolean.TRUE);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventify.inventoryservice.dedupe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter with two generations: once the current generation has absorbed its expected insertions
+ * it becomes the previous one and a fresh generation takes over, so old eventIds age out without a rebuild.
+ */
+public class RotatingBloomFilter {
+
+    private final int expectedInsertions;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+
+        this.expectedInsertions = expectedInsertions;
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64L, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        return current.contains(hash, bitCount, hashCount) || previous.contains(hash, bitCount, hashCount);
+    }
+
+    public void put(String key) {
+        Generation generation = current;
+        generation.put(hash(key), bitCount, hashCount);
+        if (generation.insertions.incrementAndGet() >= expectedInsertions) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new Generation(bitCount);
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final AtomicInteger insertions = new AtomicInteger();
+
+        private Generation(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        private void put(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long value;
+                do {
+                    value = words.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        private boolean contains(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int index(int combined, int bitCount) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+    }
+}
@@ -1,28 +1,29 @@
 package com.eventify.inventoryservice.domain;
 
+import java.util.List;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 public class InventoryBootstrap {
 
-    private final InventoryItemRepository inventoryItemRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public InventoryBootstrap(InventoryItemRepository inventoryItemRepository) {
-        this.inventoryItemRepository = inventoryItemRepository;
+    public InventoryBootstrap(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @EventListener(ApplicationReadyEvent.class)
     public void seedInventory() {
-        createIfMissing("SKU-RED-TSHIRT", 100);
-        createIfMissing("SKU-BLUE-CAP", 50);
-        createIfMissing("SKU-GREEN-HOODIE", 0);
-    }
-
-    private void createIfMissing(String sku, int qty) {
-        if (inventoryItemRepository.findById(sku).isEmpty()) {
-            inventoryItemRepository.save(new InventoryItemEntity(sku, qty));
-        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO inventory_items (sku, available_qty, version) VALUES (?, ?, 0) ON CONFLICT (sku) DO NOTHING",
+                List.of(
+                        new Object[]{"SKU-RED-TSHIRT", 100},
+                        new Object[]{"SKU-BLUE-CAP", 50},
+                        new Object[]{"SKU-GREEN-HOODIE", 0}
+                )
+        );
     }
 }
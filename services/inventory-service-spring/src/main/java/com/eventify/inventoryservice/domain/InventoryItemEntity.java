@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "inventory_items")
@@ -15,6 +16,10 @@ public class InventoryItemEntity {
     @Column(name = "available_qty", nullable = false)
     private int availableQty;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     protected InventoryItemEntity() {
     }
 
@@ -31,7 +36,7 @@ public class InventoryItemEntity {
         return availableQty;
     }
 
-    public void decrease(int quantity) {
-        this.availableQty -= quantity;
+    public long getVersion() {
+        return version;
     }
 }
@@ -2,12 +2,19 @@ package com.eventify.inventoryservice.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "inventory_reservations")
+@Table(name = "inventory_reservations", indexes = {
+        @Index(name = "idx_inventory_reservations_order", columnList = "order_id"),
+        @Index(name = "idx_inventory_reservations_sku_status", columnList = "sku, status"),
+        @Index(name = "idx_inventory_reservations_status_created", columnList = "status, created_at")
+})
 public class InventoryReservationEntity {
 
     @Id
@@ -26,6 +33,17 @@ public class InventoryReservationEntity {
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
+    /**
+     * Added without a default so rows from before reservations had a status come up NULL rather than RESERVED;
+     * {@link ReservationStatusBackfill} marks them COMMITTED and then sets NOT NULL.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ReservationStatus status;
+
+    @Column(name = "released_at")
+    private OffsetDateTime releasedAt;
+
     protected InventoryReservationEntity() {
     }
 
@@ -35,5 +53,6 @@ public class InventoryReservationEntity {
         this.sku = sku;
         this.qty = qty;
         this.createdAt = createdAt;
+        this.status = ReservationStatus.RESERVED;
     }
 }
@@ -0,0 +1,152 @@
+package com.eventify.inventoryservice.domain;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** One inventory_reservations row per order line; the schema comes from {@link InventoryReservationEntity}. */
+@Repository
+@ConditionalOnProperty(name = "app.reservations.layout", havingValue = "per-line", matchIfMissing = true)
+public class LineReservationStore implements ReservationStore {
+
+    private static final String COLUMNS = "order_id, sku, qty, status, created_at, released_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LineReservationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insert(String orderId, List<ReservationLine> lines, OffsetDateTime createdAt) {
+        Timestamp created = Timestamp.from(createdAt.toInstant());
+        List<Object[]> args = new ArrayList<>(lines.size());
+        for (ReservationLine line : lines) {
+            args.add(new Object[]{UUID.randomUUID().toString(), orderId, line.sku(), line.qty(), created});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO inventory_reservations (reservation_id, order_id, sku, qty, created_at, status) "
+                        + "VALUES (?, ?, ?, ?, ?, 'RESERVED')",
+                args
+        );
+    }
+
+    @Override
+    public List<ReleasedLine> releaseReserved(List<String> orderIds, OffsetDateTime createdBefore) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE inventory_reservations SET status = 'RELEASED', released_at = NOW() "
+                            + "WHERE order_id = ANY (?) AND status = 'RESERVED' AND created_at <= ? "
+                            + "RETURNING order_id, sku, qty"
+            );
+            Array ids = connection.createArrayOf("varchar", orderIds.toArray());
+            statement.setArray(1, ids);
+            statement.setTimestamp(2, Timestamp.from(createdBefore.toInstant()));
+            return statement;
+        }, (rs, rowNum) -> new ReleasedLine(rs.getString("order_id"), rs.getString("sku"), rs.getInt("qty")));
+    }
+
+    @Override
+    public int commitReserved(String orderId) {
+        return jdbcTemplate.update(
+                "UPDATE inventory_reservations SET status = 'COMMITTED' WHERE order_id = ? AND status = 'RESERVED'",
+                orderId
+        );
+    }
+
+    @Override
+    public void streamReservedOrders(int fetchSize, BiConsumer<String, OffsetDateTime> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT order_id, MIN(created_at) AS created_at FROM inventory_reservations "
+                            + "WHERE status = 'RESERVED' GROUP BY order_id"
+            );
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString("order_id"), rs.getObject("created_at", OffsetDateTime.class));
+        });
+    }
+
+    @Override
+    public List<String> findOverdueOrders(OffsetDateTime createdBefore, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT order_id FROM inventory_reservations WHERE status = 'RESERVED' AND created_at <= ? "
+                        + "GROUP BY order_id ORDER BY MIN(created_at) LIMIT ?",
+                String.class,
+                createdBefore, limit
+        );
+    }
+
+    @Override
+    public List<ReservationRecord> findByOrder(String orderId) {
+        return group(jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM inventory_reservations WHERE order_id = ? ORDER BY status, sku",
+                LineReservationStore::mapRow,
+                orderId
+        ));
+    }
+
+    @Override
+    public List<ReservationRecord> findReservedBySku(String sku, int limit) {
+        return group(jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM inventory_reservations WHERE order_id IN ("
+                        + "SELECT order_id FROM inventory_reservations WHERE sku = ? AND status = 'RESERVED' "
+                        + "GROUP BY order_id ORDER BY MIN(created_at) LIMIT ?) "
+                        + "AND status = 'RESERVED' ORDER BY created_at, order_id, sku",
+                LineReservationStore::mapRow,
+                sku, limit
+        ));
+    }
+
+    private static Row mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Row(
+                rs.getString("order_id"),
+                ReservationStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("released_at", OffsetDateTime.class),
+                new ReservationLine(rs.getString("sku"), rs.getInt("qty"))
+        );
+    }
+
+    // Lines of one order can differ in status (e.g. a partial release), so group by order and status.
+    private static List<ReservationRecord> group(List<Row> rows) {
+        Map<String, List<Row>> byOrder = new LinkedHashMap<>();
+        for (Row row : rows) {
+            byOrder.computeIfAbsent(row.orderId() + '|' + row.status(), ignored -> new ArrayList<>()).add(row);
+        }
+
+        List<ReservationRecord> records = new ArrayList<>(byOrder.size());
+        for (List<Row> orderRows : byOrder.values()) {
+            Row first = orderRows.get(0);
+            records.add(new ReservationRecord(
+                    first.orderId(),
+                    first.status(),
+                    first.createdAt(),
+                    first.releasedAt(),
+                    orderRows.stream().map(Row::line).toList()
+            ));
+        }
+        return records;
+    }
+
+    private record Row(String orderId,
+                       ReservationStatus status,
+                       OffsetDateTime createdAt,
+                       OffsetDateTime releasedAt,
+                       ReservationLine line) {
+    }
+}
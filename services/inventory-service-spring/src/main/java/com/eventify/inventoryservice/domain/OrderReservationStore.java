@@ -0,0 +1,186 @@
+package com.eventify.inventoryservice.domain;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One row per order with its lines packed into parallel sku/qty arrays, written with a single INSERT. The order id
+ * is the primary key; a GIN index over the SKUs of still-reserved orders serves lookups by SKU, and a partial index
+ * on created_at serves expiry. Releases unnest the arrays back into lines in the same statement.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.reservations.layout", havingValue = "per-order")
+public class OrderReservationStore implements ReservationStore {
+
+    static final String TABLE = "inventory_order_reservations";
+
+    private static final String COLUMNS = "order_id, status, created_at, released_at, skus, qtys";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderReservationStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void createSchema() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class, TABLE);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                    + "order_id VARCHAR(255) PRIMARY KEY, "
+                    + "status VARCHAR(16) NOT NULL, "
+                    + "created_at TIMESTAMPTZ NOT NULL, "
+                    + "released_at TIMESTAMPTZ, "
+                    + "skus TEXT[] NOT NULL, "
+                    + "qtys INTEGER[] NOT NULL"
+                    + ")");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + TABLE + "_skus ON " + TABLE
+                    + " USING gin (skus) WHERE status = 'RESERVED'");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + TABLE + "_reserved_created ON " + TABLE
+                    + " (created_at) WHERE status = 'RESERVED'");
+        });
+    }
+
+    /**
+     * A second reservation for an order that still holds stock merges its lines into the row, summing repeated
+     * SKUs so the arrays stay canonical, and moves {@code created_at} to the newer reservation so the stock it
+     * just took does not expire early. One for an order already committed or released is refused, since
+     * reopening it would also reopen the earlier lines.
+     */
+    @Override
+    public void insert(String orderId, List<ReservationLine> lines, OffsetDateTime createdAt) {
+        Map<String, Integer> packed = pack(lines);
+        int written = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO " + TABLE + " AS r (order_id, status, created_at, skus, qtys) "
+                            + "VALUES (?, 'RESERVED', ?, ?, ?) "
+                            + "ON CONFLICT (order_id) DO UPDATE SET "
+                            + "created_at = GREATEST(r.created_at, EXCLUDED.created_at), "
+                            + "(skus, qtys) = (SELECT array_agg(m.sku ORDER BY m.sku), array_agg(m.qty ORDER BY m.sku) "
+                            + "FROM (SELECT l.sku, SUM(l.qty)::int AS qty "
+                            + "FROM unnest(r.skus || EXCLUDED.skus, r.qtys || EXCLUDED.qtys) AS l(sku, qty) "
+                            + "GROUP BY l.sku) m) "
+                            + "WHERE r.status = 'RESERVED'"
+            );
+            statement.setString(1, orderId);
+            statement.setTimestamp(2, Timestamp.from(createdAt.toInstant()));
+            statement.setArray(3, connection.createArrayOf("text", packed.keySet().toArray()));
+            statement.setArray(4, connection.createArrayOf("integer", packed.values().toArray()));
+            return statement;
+        });
+
+        if (written == 0) {
+            throw new IllegalStateException("Order " + orderId + " already has a closed reservation");
+        }
+    }
+
+    @Override
+    public List<ReleasedLine> releaseReserved(List<String> orderIds, OffsetDateTime createdBefore) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "WITH released AS (UPDATE " + TABLE + " SET status = 'RELEASED', released_at = NOW() "
+                            + "WHERE order_id = ANY (?) AND status = 'RESERVED' AND created_at <= ? "
+                            + "RETURNING order_id, skus, qtys) "
+                            + "SELECT r.order_id, l.sku, l.qty FROM released r "
+                            + "CROSS JOIN LATERAL unnest(r.skus, r.qtys) AS l(sku, qty)"
+            );
+            Array ids = connection.createArrayOf("varchar", orderIds.toArray());
+            statement.setArray(1, ids);
+            statement.setTimestamp(2, Timestamp.from(createdBefore.toInstant()));
+            return statement;
+        }, (rs, rowNum) -> new ReleasedLine(rs.getString("order_id"), rs.getString("sku"), rs.getInt("qty")));
+    }
+
+    @Override
+    public int commitReserved(String orderId) {
+        return jdbcTemplate.update(
+                "UPDATE " + TABLE + " SET status = 'COMMITTED' WHERE order_id = ? AND status = 'RESERVED'",
+                orderId
+        );
+    }
+
+    @Override
+    public void streamReservedOrders(int fetchSize, BiConsumer<String, OffsetDateTime> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT order_id, created_at FROM " + TABLE + " WHERE status = 'RESERVED'"
+            );
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString("order_id"), rs.getObject("created_at", OffsetDateTime.class));
+        });
+    }
+
+    @Override
+    public List<String> findOverdueOrders(OffsetDateTime createdBefore, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT order_id FROM " + TABLE + " WHERE status = 'RESERVED' AND created_at <= ? "
+                        + "ORDER BY created_at LIMIT ?",
+                String.class,
+                createdBefore, limit
+        );
+    }
+
+    @Override
+    public List<ReservationRecord> findByOrder(String orderId) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM " + TABLE + " WHERE order_id = ?",
+                OrderReservationStore::mapRecord,
+                orderId
+        );
+    }
+
+    @Override
+    public List<ReservationRecord> findReservedBySku(String sku, int limit) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM " + TABLE + " WHERE skus @> ARRAY[?]::text[] AND status = 'RESERVED' "
+                        + "ORDER BY created_at LIMIT ?",
+                OrderReservationStore::mapRecord,
+                sku, limit
+        );
+    }
+
+    /** Merges repeated SKUs and sorts by SKU so the stored arrays are canonical. */
+    static Map<String, Integer> pack(List<ReservationLine> lines) {
+        Map<String, Integer> packed = new TreeMap<>();
+        for (ReservationLine line : lines) {
+            packed.merge(line.sku(), line.qty(), Integer::sum);
+        }
+        return packed;
+    }
+
+    private static ReservationRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+        String[] skus = (String[]) rs.getArray("skus").getArray();
+        Integer[] qtys = (Integer[]) rs.getArray("qtys").getArray();
+        List<ReservationLine> lines = new ArrayList<>(skus.length);
+        for (int i = 0; i < skus.length; i++) {
+            lines.add(new ReservationLine(skus[i], qtys[i]));
+        }
+
+        return new ReservationRecord(
+                rs.getString("order_id"),
+                ReservationStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("released_at", OffsetDateTime.class),
+                lines
+        );
+    }
+}
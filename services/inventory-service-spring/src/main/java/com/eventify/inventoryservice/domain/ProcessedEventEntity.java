@@ -1,27 +0,0 @@
-package com.eventify.inventoryservice.domain;
-
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
-import java.time.OffsetDateTime;
-
-@Entity
-@Table(name = "processed_events")
-public class ProcessedEventEntity {
-
-    @Id
-    @Column(name = "event_id")
-    private String eventId;
-
-    @Column(name = "processed_at", nullable = false)
-    private OffsetDateTime processedAt;
-
-    protected ProcessedEventEntity() {
-    }
-
-    public ProcessedEventEntity(String eventId, OffsetDateTime processedAt) {
-        this.eventId = eventId;
-        this.processedAt = processedAt;
-    }
-}
@@ -0,0 +1,122 @@
+package com.eventify.inventoryservice.domain;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ProcessedEventPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedEventPartitionMaintainer.class);
+
+    private final ProcessedEventStore processedEventStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int premakeDays;
+    private final Clock clock;
+
+    @Autowired
+    public ProcessedEventPartitionMaintainer(ProcessedEventStore processedEventStore,
+                                             PlatformTransactionManager transactionManager,
+                                             @Value("${app.dedupe.retention-days:7}") int retentionDays,
+                                             @Value("${app.dedupe.premake-days:2}") int premakeDays) {
+        this(processedEventStore, transactionManager, retentionDays, premakeDays, Clock.systemUTC());
+    }
+
+    ProcessedEventPartitionMaintainer(ProcessedEventStore processedEventStore,
+                                      PlatformTransactionManager transactionManager,
+                                      int retentionDays,
+                                      int premakeDays,
+                                      Clock clock) {
+        this.processedEventStore = processedEventStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.premakeDays = premakeDays;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.dedupe.maintenance-interval-ms:3600000}",
+            initialDelayString = "${app.dedupe.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        LocalDate today = today();
+        transactionTemplate.executeWithoutResult(status -> {
+            processedEventStore.lockSchema();
+            processedEventStore.createParentTable();
+
+            for (LocalDate day = oldestRetainedDay(today); !day.isAfter(newestPremadeDay(today)); day = day.plusDays(1)) {
+                processedEventStore.createPartition(day);
+            }
+
+            // One extra day of grace so an instance with a slightly lagging clock never targets a dropped partition.
+            LocalDate dropBefore = oldestRetainedDay(today).minusDays(1);
+            for (String partition : processedEventStore.listPartitions()) {
+                LocalDate day = ProcessedEventStore.partitionDay(partition);
+                if (day != null && day.isBefore(dropBefore)) {
+                    processedEventStore.dropPartition(partition);
+                    log.info("Dropped expired processed-event partition {}", partition);
+                }
+            }
+        });
+    }
+
+    /**
+     * Maps an event day onto its partition. Events outside the retention and premake windows have no partition
+     * and must be rejected by the caller, see {@link #isBeyondRetentionWindow} and {@link #isBeyondPremakeWindow}:
+     * pinning them to the nearest partition would key them on the day they arrive, and a redelivery on a later day
+     * would miss the first row.
+     */
+    public LocalDate partitionDayFor(LocalDate occurredOn) {
+        LocalDate today = today();
+        if (occurredOn.isAfter(newestPremadeDay(today))) {
+            throw new IllegalArgumentException("No processed-event partition for " + occurredOn
+                    + "; events more than " + premakeDays + " days ahead are rejected");
+        }
+        if (occurredOn.isBefore(oldestRetainedDay(today))) {
+            throw new IllegalArgumentException("No processed-event partition for " + occurredOn
+                    + "; events more than " + retentionDays + " days old are rejected");
+        }
+
+        return occurredOn;
+    }
+
+    public boolean isBeyondPremakeWindow(LocalDate occurredOn) {
+        return occurredOn.isAfter(newestPremadeDay(today()));
+    }
+
+    public boolean isBeyondRetentionWindow(LocalDate occurredOn) {
+        return occurredOn.isBefore(oldestRetainedDay(today()));
+    }
+
+    public int premakeDays() {
+        return premakeDays;
+    }
+
+    public int retentionDays() {
+        return retentionDays;
+    }
+
+    private LocalDate oldestRetainedDay(LocalDate today) {
+        return today.minusDays(retentionDays);
+    }
+
+    private LocalDate newestPremadeDay(LocalDate today) {
+        return today.plusDays(premakeDays);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
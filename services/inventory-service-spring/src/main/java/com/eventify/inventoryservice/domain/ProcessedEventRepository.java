@@ -1,6 +0,0 @@
-package com.eventify.inventoryservice.domain;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface ProcessedEventRepository extends JpaRepository<ProcessedEventEntity, String> {
-}
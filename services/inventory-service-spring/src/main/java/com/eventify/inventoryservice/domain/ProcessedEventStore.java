@@ -0,0 +1,97 @@
+package com.eventify.inventoryservice.domain;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inventory's own idempotency table, range-partitioned by the UTC day of the event's {@code occurredAt}.
+ * Redeliveries carry the same {@code occurredAt}, so the composite key (event_id, occurred_on) is as strict as a
+ * unique event_id while letting expired days be dropped as whole partitions.
+ */
+@Repository
+public class ProcessedEventStore {
+
+    static final String TABLE = "inventory_processed_events";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProcessedEventStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean insertIfAbsent(String eventId, LocalDate occurredOn) {
+        int updated = jdbcTemplate.update(
+                "INSERT INTO " + TABLE + "(event_id, occurred_on, processed_at) VALUES (?, ?, NOW()) "
+                        + "ON CONFLICT (event_id, occurred_on) DO NOTHING",
+                eventId,
+                Date.valueOf(occurredOn)
+        );
+        return updated == 1;
+    }
+
+    public boolean exists(String eventId) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + TABLE + " WHERE event_id = ?)",
+                Boolean.class,
+                eventId
+        );
+        return Boolean.TRUE.equals(exists);
+    }
+
+    void lockSchema() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class, TABLE);
+    }
+
+    void createParentTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "event_id VARCHAR(64) NOT NULL, "
+                + "occurred_on DATE NOT NULL, "
+                + "processed_at TIMESTAMPTZ NOT NULL, "
+                + "PRIMARY KEY (event_id, occurred_on)"
+                + ") PARTITION BY RANGE (occurred_on)");
+    }
+
+    void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day)
+                + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = ?",
+                String.class,
+                TABLE
+        );
+    }
+
+    void dropPartition(String partitionName) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+    }
+
+    static String partitionName(LocalDate day) {
+        return TABLE + "_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    static LocalDate partitionDay(String partitionName) {
+        String prefix = TABLE + "_p";
+        if (!partitionName.startsWith(prefix)) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(partitionName.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.eventify.inventoryservice.domain;
+
+public enum ReservationStatus {
+    RESERVED,
+    COMMITTED,
+    RELEASED
+}
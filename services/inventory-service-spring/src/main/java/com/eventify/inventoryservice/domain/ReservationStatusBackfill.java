@@ -0,0 +1,52 @@
+package com.eventify.inventoryservice.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives inventory_reservations rows from before reservations had a status an explicit COMMITTED: their orders were
+ * settled long ago, and treating them as RESERVED would let expiry hand their stock back. Runs in batches so the
+ * table is never locked for long, then makes the column NOT NULL. Idempotent; expiry calls it before it rebuilds.
+ */
+@Component
+public class ReservationStatusBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationStatusBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private volatile boolean done;
+
+    public ReservationStatusBackfill(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.reservations.status-backfill-batch-size:10000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public synchronized void run() {
+        if (done) {
+            return;
+        }
+
+        long backfilled = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "UPDATE inventory_reservations SET status = 'COMMITTED' WHERE reservation_id IN ("
+                            + "SELECT reservation_id FROM inventory_reservations WHERE status IS NULL LIMIT ?)",
+                    batchSize
+            );
+            backfilled += updated;
+        } while (updated == batchSize);
+
+        jdbcTemplate.execute("ALTER TABLE inventory_reservations ALTER COLUMN status SET NOT NULL");
+        done = true;
+        if (backfilled > 0) {
+            log.info("Backfilled status=COMMITTED on {} pre-existing inventory reservations", backfilled);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.eventify.inventoryservice.domain;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Reservation persistence. {@code app.reservations.layout} picks {@link LineReservationStore} (one row per order
+ * line) or {@link OrderReservationStore} (one row per order with packed lines). Switch layouts only once no
+ * reservations are outstanding; neither layout reads the other's table.
+ */
+public interface ReservationStore {
+
+    void insert(String orderId, List<ReservationLine> lines, OffsetDateTime createdAt);
+
+    /**
+     * Marks every still-reserved line of the given orders created at or before {@code createdBefore} as released
+     * and returns them. Lines already committed or released are skipped.
+     */
+    List<ReleasedLine> releaseReserved(List<String> orderIds, OffsetDateTime createdBefore);
+
+    int commitReserved(String orderId);
+
+    /**
+     * Streams one row per order that still holds reserved stock. Must run inside a transaction so the
+     * driver honours the fetch size instead of buffering the whole result.
+     */
+    void streamReservedOrders(int fetchSize, BiConsumer<String, OffsetDateTime> consumer);
+
+    /** Up to {@code limit} orders still holding stock reserved at or before {@code createdBefore}, oldest first. */
+    List<String> findOverdueOrders(OffsetDateTime createdBefore, int limit);
+
+    List<ReservationRecord> findByOrder(String orderId);
+
+    /** Orders still holding stock of {@code sku}, oldest first. */
+    List<ReservationRecord> findReservedBySku(String sku, int limit);
+
+    record ReservationLine(String sku, int qty) {
+    }
+
+    record ReleasedLine(String orderId, String sku, int qty) {
+    }
+
+    record ReservationRecord(String orderId,
+                             ReservationStatus status,
+                             OffsetDateTime createdAt,
+                             OffsetDateTime releasedAt,
+                             List<ReservationLine> lines) {
+    }
+}
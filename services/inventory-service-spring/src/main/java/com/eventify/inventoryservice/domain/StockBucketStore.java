@@ -0,0 +1,193 @@
+package com.eventify.inventoryservice.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Sub-rows that split a hot SKU's stock so concurrent reservations lock different rows. For a striped SKU the
+ * total is the inventory_items row plus every bucket; restocks keep landing on the item row and the rebalancer
+ * spreads them out. Lock order is always the item row first, then buckets by index.
+ */
+@Repository
+public class StockBucketStore {
+
+    static final String TABLE = "inventory_item_buckets";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StockBucketStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "sku VARCHAR(255) NOT NULL, "
+                + "bucket INTEGER NOT NULL, "
+                + "available_qty INTEGER NOT NULL, "
+                + "version BIGINT NOT NULL DEFAULT 0, "
+                + "PRIMARY KEY (sku, bucket)"
+                + ")");
+    }
+
+    public List<String> stripedSkus() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT sku FROM " + TABLE, String.class);
+    }
+
+    public boolean hasBuckets(String sku) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + TABLE + " WHERE sku = ?)", Boolean.class, sku);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * Takes {@code quantity} from any one bucket that has enough and is not locked by another transaction.
+     *
+     * @return the bucket taken from, or -1 when every bucket is locked or too small
+     */
+    public int takeFromAnyBucket(String sku, int quantity) {
+        List<Integer> taken = jdbcTemplate.queryForList(
+                "UPDATE " + TABLE + " b SET available_qty = b.available_qty - ?, version = b.version + 1 "
+                        + "FROM (SELECT bucket FROM " + TABLE + " WHERE sku = ? AND available_qty >= ? "
+                        + "ORDER BY random() LIMIT 1 FOR UPDATE SKIP LOCKED) pick "
+                        + "WHERE b.sku = ? AND b.bucket = pick.bucket RETURNING b.bucket",
+                Integer.class,
+                quantity, sku, quantity, sku
+        );
+        return taken.isEmpty() ? -1 : taken.get(0);
+    }
+
+    /**
+     * Slow path when no single bucket can serve the line: locks the item row and all buckets in order, then drains
+     * them until {@code quantity} is covered.
+     *
+     * @return the shares taken, or {@code null} if the SKU's total is too small
+     */
+    public List<StockTake.Share> takeAcrossBuckets(String sku, int quantity) {
+        List<Integer> rowQty = jdbcTemplate.queryForList(
+                "SELECT available_qty FROM inventory_items WHERE sku = ? FOR UPDATE", Integer.class, sku);
+        if (rowQty.isEmpty()) {
+            return null;
+        }
+
+        List<int[]> buckets = lockBuckets(sku);
+        long total = rowQty.get(0);
+        for (int[] bucket : buckets) {
+            total += bucket[1];
+        }
+        if (total < quantity) {
+            return null;
+        }
+
+        List<StockTake.Share> shares = new ArrayList<>();
+        int remaining = quantity;
+        int fromRow = Math.min(remaining, Math.max(0, rowQty.get(0)));
+        if (fromRow > 0) {
+            adjustItemRow(sku, -fromRow);
+            shares.add(new StockTake.Share(StockTake.ITEM_ROW, fromRow));
+            remaining -= fromRow;
+        }
+        for (int[] bucket : buckets) {
+            if (remaining == 0) {
+                break;
+            }
+            int take = Math.min(remaining, bucket[1]);
+            if (take > 0) {
+                adjust(sku, bucket[0], -take);
+                shares.add(new StockTake.Share(bucket[0], take));
+                remaining -= take;
+            }
+        }
+        return shares;
+    }
+
+    public void adjust(String sku, int bucket, int delta) {
+        jdbcTemplate.update(
+                "UPDATE " + TABLE + " SET available_qty = available_qty + ?, version = version + 1 WHERE sku = ? AND bucket = ?",
+                delta, sku, bucket
+        );
+    }
+
+    public void adjustItemRow(String sku, int delta) {
+        jdbcTemplate.update(
+                "UPDATE inventory_items SET available_qty = available_qty + ?, version = version + 1 WHERE sku = ?",
+                delta, sku
+        );
+    }
+
+    public void createBuckets(String sku, int count) {
+        jdbcTemplate.update(
+                "INSERT INTO " + TABLE + " (sku, bucket, available_qty) "
+                        + "SELECT ?, b, 0 FROM generate_series(0, ? - 1) b ON CONFLICT (sku, bucket) DO NOTHING",
+                sku, count
+        );
+    }
+
+    /** Unlocked snapshot used to decide whether a rebalance is worth taking the locks for. */
+    public BucketLoad load(String sku) {
+        Integer rowQty = jdbcTemplate.queryForObject(
+                "SELECT available_qty FROM inventory_items WHERE sku = ?", Integer.class, sku);
+        List<Integer> bucketQty = jdbcTemplate.queryForList(
+                "SELECT available_qty FROM " + TABLE + " WHERE sku = ? ORDER BY bucket", Integer.class, sku);
+        return new BucketLoad(rowQty == null ? 0 : rowQty, bucketQty);
+    }
+
+    /** Moves all of the SKU's stock, item row included, into equal buckets. Must run inside a transaction. */
+    public void rebalance(String sku) {
+        List<Integer> rowQty = jdbcTemplate.queryForList(
+                "SELECT available_qty FROM inventory_items WHERE sku = ? FOR UPDATE", Integer.class, sku);
+        List<int[]> buckets = lockBuckets(sku);
+        if (rowQty.isEmpty() || buckets.isEmpty()) {
+            return;
+        }
+
+        long total = rowQty.get(0);
+        for (int[] bucket : buckets) {
+            total += bucket[1];
+        }
+
+        int count = buckets.size();
+        List<Object[]> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long share = total / count + (i < total % count ? 1 : 0);
+            args.add(new Object[]{(int) share, sku, buckets.get(i)[0]});
+        }
+
+        jdbcTemplate.update("UPDATE inventory_items SET available_qty = 0, version = version + 1 WHERE sku = ?", sku);
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + TABLE + " SET available_qty = ?, version = version + 1 WHERE sku = ? AND bucket = ?",
+                args
+        );
+    }
+
+    private List<int[]> lockBuckets(String sku) {
+        return jdbcTemplate.query(
+                "SELECT bucket, available_qty FROM " + TABLE + " WHERE sku = ? ORDER BY bucket FOR UPDATE",
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)},
+                sku
+        );
+    }
+
+    public record BucketLoad(int itemRowQty, List<Integer> bucketQty) {
+
+        /** True when stock sits on the item row or the emptiest bucket holds under half its fair share. */
+        public boolean isSkewed() {
+            if (bucketQty.isEmpty()) {
+                return false;
+            }
+
+            long total = itemRowQty;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int qty : bucketQty) {
+                total += qty;
+                min = Math.min(min, qty);
+                max = Math.max(max, qty);
+            }
+
+            long fairShare = total / bucketQty.size();
+            return itemRowQty > 0 || (min < fairShare / 2 && max - min > 1);
+        }
+    }
+}
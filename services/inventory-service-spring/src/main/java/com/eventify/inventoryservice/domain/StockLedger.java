@@ -0,0 +1,180 @@
+package com.eventify.inventoryservice.domain;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Single entry point for taking and reading stock. SKUs keep the one-row layout unless striped into buckets, in
+ * which case takes go through {@link StockBucketStore} and totals (and versions) are summed across the rows.
+ */
+@Repository
+public class StockLedger {
+
+    private static final RowMapper<StockLevel> LEVEL_MAPPER =
+            (rs, rowNum) -> new StockLevel(rs.getString(1), rs.getInt(2), rs.getLong(3));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockBucketStore stockBucketStore;
+    private final boolean bucketsEnabled;
+    private volatile Set<String> stripedSkus = Set.of();
+
+    public StockLedger(JdbcTemplate jdbcTemplate,
+                       StockBucketStore stockBucketStore,
+                       @Value("${app.stock-buckets.enabled:false}") boolean bucketsEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockBucketStore = stockBucketStore;
+        this.bucketsEnabled = bucketsEnabled;
+    }
+
+    public boolean isBucketsEnabled() {
+        return bucketsEnabled;
+    }
+
+    public boolean isStriped(String sku) {
+        return stripedSkus.contains(sku);
+    }
+
+    public Set<String> stripedSkus() {
+        return stripedSkus;
+    }
+
+    public synchronized void refreshStripedSkus() {
+        if (bucketsEnabled) {
+            stripedSkus = Set.copyOf(stockBucketStore.stripedSkus());
+        }
+    }
+
+    private synchronized void markStriped(String sku) {
+        Set<String> updated = new HashSet<>(stripedSkus);
+        updated.add(sku);
+        stripedSkus = Set.copyOf(updated);
+    }
+
+    /**
+     * Takes {@code quantity} of {@code sku} inside the caller's transaction, holding the touched rows locked until
+     * it ends.
+     *
+     * @return what was taken, or {@code null} when the SKU is unknown or short
+     */
+    public StockTake take(String sku, int quantity) {
+        if (!isStriped(sku)) {
+            List<StockLevel> levels = jdbcTemplate.query(
+                    "UPDATE inventory_items SET available_qty = available_qty - ?, version = version + 1 "
+                            + "WHERE sku = ? AND available_qty >= ? RETURNING sku, available_qty, version",
+                    LEVEL_MAPPER,
+                    quantity, sku, quantity
+            );
+            if (!levels.isEmpty()) {
+                return new StockTake(sku, quantity, List.of(new StockTake.Share(StockTake.ITEM_ROW, quantity)), levels.get(0));
+            }
+            // Another instance may have striped the SKU since our last refresh; its stock now sits in buckets.
+            if (!bucketsEnabled || !stockBucketStore.hasBuckets(sku)) {
+                return null;
+            }
+            markStriped(sku);
+        }
+
+        int bucket = stockBucketStore.takeFromAnyBucket(sku, quantity);
+        if (bucket >= 0) {
+            return new StockTake(sku, quantity, List.of(new StockTake.Share(bucket, quantity)), null);
+        }
+
+        List<StockTake.Share> shares = stockBucketStore.takeAcrossBuckets(sku, quantity);
+        return shares == null ? null : new StockTake(sku, quantity, shares, null);
+    }
+
+    /** Returns a take made earlier in the same transaction, e.g. when a later line of the order is short. */
+    public void giveBack(StockTake take) {
+        for (StockTake.Share share : take.shares()) {
+            if (share.bucket() == StockTake.ITEM_ROW) {
+                stockBucketStore.adjustItemRow(take.sku(), share.quantity());
+            } else {
+                stockBucketStore.adjust(take.sku(), share.bucket(), share.quantity());
+            }
+        }
+    }
+
+    /** Returns released stock to the item rows, in SKU order so concurrent releases cannot deadlock. */
+    public void restock(Map<String, Integer> qtyBySku) {
+        List<Object[]> args = new ArrayList<>(qtyBySku.size());
+        qtyBySku.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> args.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE inventory_items SET available_qty = available_qty + ?, version = version + 1 WHERE sku = ?",
+                args
+        );
+    }
+
+    public List<StockLevel> levelsAfter(List<StockTake> takes) {
+        List<StockLevel> levels = new ArrayList<>(takes.size());
+        Set<String> summed = new HashSet<>();
+        for (StockTake take : takes) {
+            if (take.level() != null) {
+                levels.add(take.level());
+            } else {
+                summed.add(take.sku());
+            }
+        }
+
+        if (!summed.isEmpty()) {
+            levels.addAll(levels(summed));
+        }
+        return levels;
+    }
+
+    /** Streams every SKU's level. Must run inside a transaction so the driver honours the fetch size. */
+    public void streamLevels(int fetchSize, Consumer<StockLevel> consumer) {
+        String sql = bucketsEnabled
+                ? "SELECT i.sku, i.available_qty + COALESCE(b.qty, 0), i.version + COALESCE(b.version, 0) "
+                        + "FROM inventory_items i LEFT JOIN ("
+                        + "SELECT sku, SUM(available_qty) AS qty, SUM(version) AS version FROM " + StockBucketStore.TABLE
+                        + " GROUP BY sku) b ON b.sku = i.sku"
+                : "SELECT sku, available_qty, version FROM inventory_items";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            consumer.accept(LEVEL_MAPPER.mapRow(rs, 0));
+        });
+    }
+
+    /** Plain MVCC read, so it never waits on reservation locks. */
+    public List<StockLevel> levels(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = bucketsEnabled
+                ? "SELECT i.sku, i.available_qty + COALESCE(b.qty, 0), i.version + COALESCE(b.version, 0) "
+                        + "FROM inventory_items i LEFT JOIN ("
+                        + "SELECT sku, SUM(available_qty) AS qty, SUM(version) AS version FROM " + StockBucketStore.TABLE
+                        + " WHERE sku = ANY (?) GROUP BY sku) b ON b.sku = i.sku "
+                        + "WHERE i.sku = ANY (?)"
+                : "SELECT sku, available_qty, version FROM inventory_items WHERE sku = ANY (?)";
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            Array array = connection.createArrayOf("varchar", skus.toArray());
+            statement.setArray(1, array);
+            if (bucketsEnabled) {
+                statement.setArray(2, array);
+            }
+            return statement;
+        }, LEVEL_MAPPER);
+    }
+}
@@ -0,0 +1,4 @@
+package com.eventify.inventoryservice.domain;
+
+public record StockLevel(String sku, int availableQty, long version) {
+}
@@ -0,0 +1,16 @@
+package com.eventify.inventoryservice.domain;
+
+import java.util.List;
+
+/**
+ * Stock taken for one order line, split over the rows it came from. {@code level} is the post-update level when
+ * a single-row SKU returned it directly, and {@code null} for striped SKUs whose total must be summed on read.
+ */
+public record StockTake(String sku, int quantity, List<Share> shares, StockLevel level) {
+
+    public static final int ITEM_ROW = -1;
+
+    /** {@code bucket} is a bucket index, or {@link #ITEM_ROW} for the inventory_items row itself. */
+    public record Share(int bucket, int quantity) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.eventify.inventoryservice.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical hashed timing wheel. Level {@code n} has {@code wheelSize} slots, each spanning
+ * {@code wheelSize^n} ticks; entries cascade to finer levels as time reaches their slot. Scheduling and expiry are
+ * O(1) amortised and memory is one small entry per timer, so millions of pending deadlines stay cheap.
+ * Cancellation is not supported: callers are expected to make expiry handling idempotent instead.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize must be at least 2");
+        }
+
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+        this.levels.add(new Level<>(wheelSize, 1));
+    }
+
+    /**
+     * @return {@code false} if the deadline is already due; the caller should expire the item itself
+     */
+    public synchronized boolean schedule(T item, long deadlineMs) {
+        long deadlineTick = Math.floorDiv(deadlineMs + tickMs - 1, tickMs);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+
+        place(new Entry<>(item, deadlineTick));
+        size++;
+        return true;
+    }
+
+    public synchronized void advanceTo(long nowMs, Consumer<T> onExpired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            List<Entry<T>> due = levels.get(0).drain(slotIndex(0));
+            size -= due.size();
+            for (Entry<T> entry : due) {
+                onExpired.accept(entry.item);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            long span = levels.get(level).ticksPerSlot;
+            if (currentTick % span != 0) {
+                continue;
+            }
+
+            for (Entry<T> entry : levels.get(level).drain(slotIndex(level))) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (delta >= levels.get(level).ticksPerSlot * wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                levels.add(new Level<>(wheelSize, levels.get(level - 1).ticksPerSlot * wheelSize));
+            }
+        }
+
+        Level<T> target = levels.get(level);
+        int slot = (int) Math.floorMod(entry.deadlineTick / target.ticksPerSlot, (long) wheelSize);
+        target.slots[slot].add(entry);
+    }
+
+    private int slotIndex(int level) {
+        return (int) Math.floorMod(currentTick / levels.get(level).ticksPerSlot, (long) wheelSize);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+
+    private static final class Level<T> {
+
+        private final long ticksPerSlot;
+        private final ArrayList<Entry<T>>[] slots;
+
+        @SuppressWarnings("unchecked")
+        private Level(int wheelSize, long ticksPerSlot) {
+            this.ticksPerSlot = ticksPerSlot;
+            this.slots = new ArrayList[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new ArrayList<>();
+            }
+        }
+
+        private List<Entry<T>> drain(int slot) {
+            ArrayList<Entry<T>> entries = slots[slot];
+            if (entries.isEmpty()) {
+                return List.of();
+            }
+
+            slots[slot] = new ArrayList<>();
+            return entries;
+        }
+    }
+}
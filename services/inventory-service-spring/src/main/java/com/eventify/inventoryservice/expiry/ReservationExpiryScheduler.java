@@ -0,0 +1,158 @@
+package com.eventify.inventoryservice.expiry;
+
+import com.eventify.inventoryservice.domain.ReservationStatusBackfill;
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.service.ReservationCreatedEvent;
+import com.eventify.inventoryservice.service.ReservationReleaseService;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Expires reservations from an in-memory timing wheel fed by this instance's own reservations and, at startup,
+ * by every reservation still held. The wheel never learns about reservations another instance created, so a
+ * periodic sweep releases whatever the database still holds past its TTL; that covers an instance that was scaled
+ * in or crashed before its reservations came due.
+ */
+@Component
+public class ReservationExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExpiryScheduler.class);
+
+    private static final String EXPIRED_REASON = "RESERVATION_EXPIRED";
+
+    private final ReservationStore reservationStore;
+    private final ReservationReleaseService reservationReleaseService;
+    private final ReservationStatusBackfill reservationStatusBackfill;
+    private final TransactionTemplate readOnlyTransaction;
+    private final HierarchicalTimingWheel<String> timingWheel;
+    private final Queue<String> dueOrderIds = new ConcurrentLinkedQueue<>();
+    private final Duration ttl;
+    private final int releaseBatchSize;
+    private final int rebuildFetchSize;
+
+    public ReservationExpiryScheduler(ReservationStore reservationStore,
+                                      ReservationReleaseService reservationReleaseService,
+                                      ReservationStatusBackfill reservationStatusBackfill,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.reservations.ttl-ms:900000}") long ttlMs,
+                                      @Value("${app.reservations.expiry.tick-ms:1000}") long tickMs,
+                                      @Value("${app.reservations.expiry.wheel-size:512}") int wheelSize,
+                                      @Value("${app.reservations.expiry.release-batch-size:500}") int releaseBatchSize,
+                                      @Value("${app.reservations.expiry.rebuild-fetch-size:5000}") int rebuildFetchSize) {
+        this.reservationStore = reservationStore;
+        this.reservationReleaseService = reservationReleaseService;
+        this.reservationStatusBackfill = reservationStatusBackfill;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.timingWheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        this.releaseBatchSize = releaseBatchSize;
+        this.rebuildFetchSize = rebuildFetchSize;
+    }
+
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        track(event.orderId(), event.createdAt());
+    }
+
+    /** Legacy rows must have their status backfilled first, or they would be streamed as RESERVED and expired. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reservationStatusBackfill.run();
+        AtomicLong tracked = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> reservationStore.streamReservedOrders(
+                rebuildFetchSize,
+                (orderId, createdAt) -> {
+                    track(orderId, createdAt);
+                    tracked.incrementAndGet();
+                }
+        ));
+        log.info("Rebuilt reservation expiry wheel orders={} alreadyDue={}", tracked.get(), dueOrderIds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservations.expiry.tick-ms:1000}")
+    public void expireDue() {
+        timingWheel.advanceTo(System.currentTimeMillis(), dueOrderIds::add);
+
+        OffsetDateTime createdBefore = OffsetDateTime.now().minus(ttl);
+        List<String> batch = new ArrayList<>(releaseBatchSize);
+        String orderId;
+        while ((orderId = dueOrderIds.poll()) != null) {
+            batch.add(orderId);
+            if (batch.size() == releaseBatchSize) {
+                if (!releaseBatch(batch, createdBefore)) {
+                    return;
+                }
+                batch = new ArrayList<>(releaseBatchSize);
+            }
+        }
+
+        releaseBatch(batch, createdBefore);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservations.expiry.sweep-interval-ms:60000}",
+            initialDelayString = "${app.reservations.expiry.sweep-interval-ms:60000}")
+    public void sweepOverdue() {
+        OffsetDateTime createdBefore = OffsetDateTime.now().minus(ttl);
+        long swept = 0;
+        List<String> overdue;
+        do {
+            overdue = reservationStore.findOverdueOrders(createdBefore, releaseBatchSize);
+            if (overdue.isEmpty()) {
+                break;
+            }
+            try {
+                reservationReleaseService.release(overdue, createdBefore, EXPIRED_REASON, null);
+            } catch (Exception ex) {
+                log.error("Reservation expiry sweep failed after orders={}; will retry next sweep", swept, ex);
+                return;
+            }
+            swept += overdue.size();
+        } while (overdue.size() == releaseBatchSize);
+
+        if (swept > 0) {
+            log.info("Reservation expiry sweep released overdue orders={}", swept);
+        }
+    }
+
+    public int pendingCount() {
+        return timingWheel.size() + dueOrderIds.size();
+    }
+
+    private void track(String orderId, OffsetDateTime createdAt) {
+        long deadlineMs = createdAt.plus(ttl).toInstant().toEpochMilli();
+        if (!timingWheel.schedule(orderId, deadlineMs)) {
+            dueOrderIds.add(orderId);
+        }
+    }
+
+    private boolean releaseBatch(List<String> batch, OffsetDateTime createdBefore) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            reservationReleaseService.release(batch, createdBefore, EXPIRED_REASON, null);
+            return true;
+        } catch (Exception ex) {
+            log.error("Reservation expiry batch failed; will retry orders={}", batch.size(), ex);
+            dueOrderIds.addAll(batch);
+            return false;
+        }
+    }
+}
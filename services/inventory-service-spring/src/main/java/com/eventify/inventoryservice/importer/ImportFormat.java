@@ -0,0 +1,17 @@
+package com.eventify.inventoryservice.importer;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        return null;
+    }
+}
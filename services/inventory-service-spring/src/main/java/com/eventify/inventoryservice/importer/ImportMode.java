@@ -0,0 +1,8 @@
+package com.eventify.inventoryservice.importer;
+
+public enum ImportMode {
+    /** Overwrites available_qty with the imported quantity. */
+    SET,
+    /** Adds the imported quantity to available_qty (replenishment). */
+    ADD
+}
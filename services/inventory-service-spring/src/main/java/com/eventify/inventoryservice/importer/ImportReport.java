@@ -0,0 +1,14 @@
+package com.eventify.inventoryservice.importer;
+
+import java.util.List;
+
+public record ImportReport(
+        ImportMode mode,
+        long rowsRead,
+        long rowsRejected,
+        long skusMerged,
+        long durationMs,
+        long rowsPerSecond,
+        List<String> sampleErrors
+) {
+}
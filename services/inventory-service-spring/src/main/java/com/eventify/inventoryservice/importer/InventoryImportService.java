@@ -0,0 +1,426 @@
+package com.eventify.inventoryservice.importer;
+
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import com.eventify.inventoryservice.service.StockLevelsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams stock rows into a session-local staging table with COPY, then merges them into inventory_items in
+ * short SKU-ordered upsert transactions so live reservations only ever wait on one small chunk. An ADD import
+ * records how far it merged in the same transaction as each chunk, keyed by a hash of its content, so retrying
+ * the same file after a failure resumes after the last committed chunk instead of adding it twice.
+ */
+@Service
+public class InventoryImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryImportService.class);
+
+    private static final String STAGING_TABLE = "inventory_import_staging";
+    private static final String PROGRESS_TABLE = "inventory_import_progress";
+    private static final int MAX_SAMPLE_ERRORS = 20;
+    private static final int MAX_SKU_LENGTH = 255;
+
+    private static final String MERGE_SET_SQL = "INSERT INTO inventory_items (sku, available_qty, version) "
+            + "SELECT DISTINCT ON (sku) sku, qty, 0 FROM " + STAGING_TABLE + " "
+            + "WHERE seq >= ? AND seq < ? ORDER BY sku, seq DESC "
+            + "ON CONFLICT (sku) DO UPDATE SET available_qty = EXCLUDED.available_qty, "
+            + "version = inventory_items.version + 1 "
+            + "RETURNING sku, available_qty, version";
+
+    private static final String MERGE_ADD_SQL = "INSERT INTO inventory_items (sku, available_qty, version) "
+            + "SELECT sku, SUM(qty)::int, 0 FROM " + STAGING_TABLE + " "
+            + "WHERE seq >= ? AND seq < ? GROUP BY sku ORDER BY sku "
+            + "ON CONFLICT (sku) DO UPDATE SET available_qty = inventory_items.available_qty + EXCLUDED.available_qty, "
+            + "version = inventory_items.version + 1 "
+            + "RETURNING sku, available_qty, version";
+
+    // Striped SKUs keep stock in buckets, so a SET must empty them in the same statement that sets the item row.
+    private static final String CLEAR_BUCKETS_CTE = "WITH cleared AS (UPDATE inventory_item_buckets b "
+            + "SET available_qty = 0, version = b.version + 1 "
+            + "WHERE b.sku IN (SELECT sku FROM " + STAGING_TABLE + " WHERE seq >= ? AND seq < ?)) ";
+
+    private static final String PROGRESS_SELECT_SQL =
+            "SELECT merged_through FROM " + PROGRESS_TABLE + " WHERE import_key = ?";
+
+    private static final String PROGRESS_UPSERT_SQL = "INSERT INTO " + PROGRESS_TABLE
+            + " (import_key, merged_through, updated_at) VALUES (?, ?, now()) "
+            + "ON CONFLICT (import_key) DO UPDATE SET merged_through = EXCLUDED.merged_through, updated_at = now()";
+
+    private static final String PROGRESS_DELETE_SQL = "DELETE FROM " + PROGRESS_TABLE + " WHERE import_key = ?";
+
+    private final DataSource dataSource;
+    private final ObjectReader rowReader;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StockLedger stockLedger;
+
+    @Value("${app.inventory-import.merge-chunk-size:5000}")
+    private int mergeChunkSize;
+
+    @Value("${app.inventory-import.copy-buffer-bytes:65536}")
+    private int copyBufferBytes;
+
+    public InventoryImportService(DataSource dataSource,
+                                  ObjectMapper objectMapper,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  StockLedger stockLedger) {
+        this.dataSource = dataSource;
+        this.rowReader = objectMapper.readerFor(JsonNode.class).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stockLedger = stockLedger;
+    }
+
+    @PostConstruct
+    void createProgressTable() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_advisory_xact_lock(hashtext(?))");
+                 Statement statement = connection.createStatement()) {
+                lock.setString(1, PROGRESS_TABLE);
+                lock.execute();
+                statement.execute("CREATE TABLE IF NOT EXISTS " + PROGRESS_TABLE
+                        + " (import_key VARCHAR(80) PRIMARY KEY, merged_through BIGINT NOT NULL,"
+                        + " updated_at TIMESTAMPTZ NOT NULL)");
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    public ImportReport importStream(InputStream input, ImportFormat format, ImportMode mode) throws IOException, SQLException {
+        long startedAt = System.nanoTime();
+        DigestInputStream content = new DigestInputStream(input, sha256());
+        RowSink sink;
+        long skusMerged;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            createStagingTable(connection);
+            try {
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY " + STAGING_TABLE + " (sku, qty) FROM STDIN WITH (FORMAT csv)");
+                sink = new RowSink(copyIn, copyBufferBytes);
+                try {
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(content, StandardCharsets.UTF_8), copyBufferBytes);
+                    if (format == ImportFormat.CSV) {
+                        readCsv(reader, sink);
+                    } else {
+                        readNdjson(reader, sink);
+                    }
+                    sink.finish();
+                } catch (IOException | SQLException | RuntimeException ex) {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                    throw ex;
+                }
+
+                indexStagingTable(connection);
+                String importKey = mode == ImportMode.ADD
+                        ? mode + ":" + HexFormat.of().formatHex(content.getMessageDigest().digest())
+                        : null;
+                skusMerged = merge(connection, mode, sink.accepted, importKey);
+            } finally {
+                dropStagingTable(connection);
+            }
+        }
+
+        long durationMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long rowsRead = sink.accepted + sink.rejected;
+        ImportReport report = new ImportReport(
+                mode,
+                rowsRead,
+                sink.rejected,
+                skusMerged,
+                durationMs,
+                rowsRead * 1000 / durationMs,
+                sink.sampleErrors
+        );
+        log.info("Inventory import finished mode={} rows={} rejected={} skus={} durationMs={} rowsPerSec={}",
+                mode, rowsRead, sink.rejected, skusMerged, durationMs, report.rowsPerSecond());
+        return report;
+    }
+
+    void readCsv(BufferedReader reader, RowSink sink) throws IOException, SQLException {
+        String line;
+        long lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            int comma = line.indexOf(',');
+            if (comma < 0 || line.indexOf(',', comma + 1) >= 0) {
+                sink.reject("line " + lineNo + ": expected sku,quantity");
+                continue;
+            }
+
+            String sku = line.substring(0, comma).trim();
+            String quantity = line.substring(comma + 1).trim();
+            if (lineNo == 1 && "sku".equalsIgnoreCase(sku)) {
+                continue;
+            }
+
+            try {
+                sink.accept(sku, Integer.parseInt(quantity), lineNo);
+            } catch (NumberFormatException ex) {
+                sink.reject("line " + lineNo + ": quantity is not an integer");
+            }
+        }
+    }
+
+    /** One object per line; a line that is not a single JSON object is rejected like any other bad row. */
+    void readNdjson(BufferedReader reader, RowSink sink) throws IOException, SQLException {
+        String line;
+        long lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonNode row;
+            try {
+                row = rowReader.readValue(line);
+            } catch (JsonProcessingException ex) {
+                sink.reject("line " + lineNo + ": not valid JSON");
+                continue;
+            }
+            if (!row.isObject()) {
+                sink.reject("line " + lineNo + ": expected a JSON object");
+                continue;
+            }
+
+            JsonNode quantity = row.path("quantity");
+            if (!quantity.canConvertToInt() || !quantity.isIntegralNumber()) {
+                sink.reject("line " + lineNo + ": quantity must be an integer");
+                continue;
+            }
+
+            sink.accept(row.path("sku").asText(""), quantity.intValue(), lineNo);
+        }
+    }
+
+    /**
+     * A SET chunk is idempotent and autocommits on its own. An ADD chunk is not, so it commits together with the
+     * import's progress row and a retry with the same {@code importKey} starts after the last committed chunk; the
+     * row is removed once the whole import is merged, so a later, identical feed is applied again in full.
+     */
+    long merge(Connection connection, ImportMode mode, long stagedRows, String importKey) throws SQLException {
+        boolean clearBuckets = mode == ImportMode.SET && stockLedger.isBucketsEnabled();
+        String sql = mode == ImportMode.SET ? MERGE_SET_SQL : MERGE_ADD_SQL;
+        if (clearBuckets) {
+            sql = CLEAR_BUCKETS_CTE + sql;
+        }
+        boolean tracked = importKey != null;
+        long mergedThrough = tracked ? mergedThrough(connection, importKey) : 0;
+        if (mergedThrough > 0) {
+            log.info("Resuming inventory import {} after staged row {}", importKey, mergedThrough);
+        }
+        long merged = 0;
+
+        if (tracked) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             PreparedStatement progress = tracked ? connection.prepareStatement(PROGRESS_UPSERT_SQL) : null) {
+            for (long from = mergedThrough + 1; from <= stagedRows; from += mergeChunkSize) {
+                int index = 1;
+                if (clearBuckets) {
+                    statement.setLong(index++, from);
+                    statement.setLong(index++, from + mergeChunkSize);
+                }
+                statement.setLong(index++, from);
+                statement.setLong(index, from + mergeChunkSize);
+
+                List<StockLevel> levels = new ArrayList<>();
+                List<String> striped = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        String sku = rs.getString(1);
+                        if (stockLedger.isStriped(sku)) {
+                            striped.add(sku);
+                        } else {
+                            levels.add(new StockLevel(sku, rs.getInt(2), rs.getLong(3)));
+                        }
+                    }
+                }
+
+                if (tracked) {
+                    progress.setString(1, importKey);
+                    progress.setLong(2, Math.min(stagedRows, from + mergeChunkSize - 1));
+                    progress.executeUpdate();
+                    connection.commit();
+                }
+
+                merged += levels.size() + striped.size();
+                levels.addAll(stockLedger.levels(striped));
+                applicationEventPublisher.publishEvent(new StockLevelsChangedEvent(levels));
+            }
+
+            if (tracked) {
+                try (PreparedStatement done = connection.prepareStatement(PROGRESS_DELETE_SQL)) {
+                    done.setString(1, importKey);
+                    done.executeUpdate();
+                }
+                connection.commit();
+            }
+        } catch (SQLException | RuntimeException ex) {
+            if (tracked) {
+                connection.rollback();
+            }
+            throw ex;
+        } finally {
+            if (tracked) {
+                connection.setAutoCommit(true);
+            }
+        }
+
+        return merged;
+    }
+
+    private long mergedThrough(Connection connection, String importKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(PROGRESS_SELECT_SQL)) {
+            statement.setString(1, importKey);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private void createStagingTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + STAGING_TABLE
+                    + " (seq BIGSERIAL, sku VARCHAR(" + MAX_SKU_LENGTH + ") NOT NULL, qty INTEGER NOT NULL)");
+            statement.execute("TRUNCATE " + STAGING_TABLE + " RESTART IDENTITY");
+        }
+    }
+
+    private void indexStagingTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX ON " + STAGING_TABLE + " (seq)");
+            statement.execute("ANALYZE " + STAGING_TABLE);
+        }
+    }
+
+    private void dropStagingTable(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        } catch (SQLException ex) {
+            log.warn("Failed to drop import staging table", ex);
+        }
+    }
+
+    static final class RowSink {
+
+        private final CopyIn copyIn;
+        private final byte[] buffer;
+        private final StringBuilder row = new StringBuilder(64);
+        private final List<String> sampleErrors = new ArrayList<>();
+        private int position;
+        private long accepted;
+        private long rejected;
+
+        RowSink(CopyIn copyIn, int bufferBytes) {
+            this.copyIn = copyIn;
+            this.buffer = new byte[bufferBytes];
+        }
+
+        long accepted() {
+            return accepted;
+        }
+
+        long rejected() {
+            return rejected;
+        }
+
+        List<String> sampleErrors() {
+            return sampleErrors;
+        }
+
+        private void accept(String sku, int quantity, long rowNo) throws SQLException {
+            if (sku.isBlank() || sku.length() > MAX_SKU_LENGTH) {
+                reject("row " + rowNo + ": sku must be 1-" + MAX_SKU_LENGTH + " characters");
+                return;
+            }
+            if (quantity < 0) {
+                reject("row " + rowNo + ": quantity must not be negative");
+                return;
+            }
+
+            row.setLength(0);
+            row.append('"').append(sku.replace("\"", "\"\"")).append("\",").append(quantity).append('\n');
+            byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+            if (position + bytes.length > buffer.length) {
+                flush();
+            }
+            if (bytes.length > buffer.length) {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } else {
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+            accepted++;
+        }
+
+        private void reject(String error) {
+            rejected++;
+            if (sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+                sampleErrors.add(error);
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (position > 0) {
+                copyIn.writeToCopy(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        void finish() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventify.inventoryservice.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks up replenishment feed files dropped into {@code app.inventory-import.feed-directory} and applies them as
+ * {@link ImportMode#ADD} imports. Finished files move to {@code processed/} or {@code failed/}; dropping a failed
+ * file back in resumes it after the chunks its earlier attempt already merged.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory-import.feed-directory")
+public class ReplenishmentFeedPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplenishmentFeedPoller.class);
+
+    private final InventoryImportService inventoryImportService;
+    private final Path feedDirectory;
+
+    public ReplenishmentFeedPoller(InventoryImportService inventoryImportService,
+                                   @Value("${app.inventory-import.feed-directory}") String feedDirectory) {
+        this.inventoryImportService = inventoryImportService;
+        this.feedDirectory = Path.of(feedDirectory);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory-import.feed-poll-interval-ms:60000}")
+    public void poll() {
+        if (!Files.isDirectory(feedDirectory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(feedDirectory, Files::isRegularFile)) {
+            for (Path file : files) {
+                ImportFormat format = ImportFormat.fromFileName(file.getFileName().toString());
+                if (format != null) {
+                    importFile(file, format);
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Failed to list replenishment feed directory {}", feedDirectory, ex);
+        }
+    }
+
+    private void importFile(Path file, ImportFormat format) throws IOException {
+        String target;
+        try (InputStream input = Files.newInputStream(file)) {
+            ImportReport report = inventoryImportService.importStream(input, format, ImportMode.ADD);
+            log.info("Applied replenishment feed {} rows={} rejected={}", file.getFileName(), report.rowsRead(), report.rowsRejected());
+            target = "processed";
+        } catch (Exception ex) {
+            log.error("Replenishment feed {} failed", file.getFileName(), ex);
+            target = "failed";
+        }
+
+        Path targetDirectory = Files.createDirectories(feedDirectory.resolve(target));
+        Files.move(file, targetDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
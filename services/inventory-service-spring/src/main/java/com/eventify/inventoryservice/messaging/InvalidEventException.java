@@ -0,0 +1,29 @@
+package com.eventify.inventoryservice.messaging;
+
+public class InvalidEventException extends IllegalArgumentException {
+
+    private final String eventId;
+    private final String correlationId;
+    private final boolean malformedJson;
+
+    public InvalidEventException(String message, String eventId, String correlationId, boolean malformedJson) {
+        super(message);
+        this.eventId = eventId;
+        this.correlationId = correlationId;
+        this.malformedJson = malformedJson;
+    }
+
+    /** The eventId if one was read before validation failed, otherwise {@code null}. */
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /** {@code true} when the input is not well-formed JSON and so cannot be embedded verbatim. */
+    public boolean isMalformedJson() {
+        return malformedJson;
+    }
+}
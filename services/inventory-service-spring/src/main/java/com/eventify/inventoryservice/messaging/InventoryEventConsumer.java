@@ -1,11 +1,14 @@
 package com.eventify.inventoryservice.messaging;
 
+import com.eventify.inventoryservice.backpressure.BackpressureController;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.rebalance.PartitionHandoffListener;
 import com.eventify.inventoryservice.service.InventoryReservationService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.eventify.inventoryservice.tracing.HopLatencyRecorder;
+import com.eventify.inventoryservice.tracing.TraceContext;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.Base64;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.slf4j.Logger;
@@ -20,10 +23,15 @@ public class InventoryEventConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryEventConsumer.class);
 
-    private final ObjectMapper objectMapper;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final InventoryReservationService inventoryReservationService;
     private final InventoryEventFactory inventoryEventFactory;
+    private final OrderPlacedEventParser orderPlacedEventParser;
+    private final PayloadDecoder payloadDecoder;
+    private final HotSkuProfiler hotSkuProfiler;
+    private final BackpressureController backpressureController;
+    private final HopLatencyRecorder hopLatencyRecorder;
+    private final PartitionHandoffListener partitionHandoffListener;
 
     @Value("${app.kafka.inventory-dlq-topic:inventory.dlq}")
     private String inventoryDlqTopic;
@@ -34,34 +42,83 @@ public class InventoryEventConsumer {
     @Value("${app.retry.backoff-ms:500}")
     private long backoffMs;
 
-    public InventoryEventConsumer(ObjectMapper objectMapper,
-                                  KafkaTemplate<String, String> kafkaTemplate,
+    public InventoryEventConsumer(KafkaTemplate<String, String> kafkaTemplate,
                                   InventoryReservationService inventoryReservationService,
-                                  InventoryEventFactory inventoryEventFactory) {
-        this.objectMapper = objectMapper;
+                                  InventoryEventFactory inventoryEventFactory,
+                                  OrderPlacedEventParser orderPlacedEventParser,
+                                  PayloadDecoder payloadDecoder,
+                                  HotSkuProfiler hotSkuProfiler,
+                                  BackpressureController backpressureController,
+                                  HopLatencyRecorder hopLatencyRecorder,
+                                  PartitionHandoffListener partitionHandoffListener) {
         this.kafkaTemplate = kafkaTemplate;
         this.inventoryReservationService = inventoryReservationService;
         this.inventoryEventFactory = inventoryEventFactory;
+        this.orderPlacedEventParser = orderPlacedEventParser;
+        this.payloadDecoder = payloadDecoder;
+        this.hotSkuProfiler = hotSkuProfiler;
+        this.backpressureController = backpressureController;
+        this.hopLatencyRecorder = hopLatencyRecorder;
+        this.partitionHandoffListener = partitionHandoffListener;
     }
 
-    @KafkaListener(topics = "${app.kafka.orders-topic:orders.events}")
-    public void onOrderPlaced(String rawEvent) {
+    @KafkaListener(id = BackpressureController.LISTENER_ID, idIsGroup = false,
+            topics = "${app.kafka.orders-topic:orders.events}")
+    public void onOrderPlaced(ConsumerRecord<String, byte[]> record) {
+        handle(record);
+        partitionHandoffListener.recordHandled(record);
+    }
+
+    private void handle(ConsumerRecord<String, byte[]> record) {
+        hotSkuProfiler.recordConsumed(record.timestamp());
+        TraceContext trace = TraceContext.from(record.headers());
+        if (trace != null) {
+            hopLatencyRecorder.recordConsumed(trace, System.currentTimeMillis());
+        }
+
+        if (record.value() == null) {
+            publishDlq(new byte[0], false, null, "unknown", "Validation failed: record has no value (tombstone)");
+            return;
+        }
+
+        byte[] rawEvent;
+        try {
+            rawEvent = payloadDecoder.decode(record.value(), record.headers());
+        } catch (InvalidEventException ex) {
+            // The body is not text; carry it as Base64 so the DLQ record keeps the exact bytes.
+            byte[] encoded = Base64.getEncoder().encode(record.value());
+            publishDlq(encoded, false, null, "unknown", "Decoding failed: " + ex.getMessage());
+            return;
+        }
+
         OrderPlacedEvent event;
         try {
-            event = objectMapper.readValue(rawEvent, OrderPlacedEvent.class);
-            validate(event);
-        } catch (Exception ex) {
-            publishDlq(rawEvent, inventoryEventFactory.randomCorrelationId(), "unknown", "Validation failed: " + ex.getMessage());
+            event = orderPlacedEventParser.parse(rawEvent);
+        } catch (InvalidEventException ex) {
+            publishDlq(rawEvent, !ex.isMalformedJson(), ex.getCorrelationId(),
+                    ex.getEventId() == null ? "unknown" : ex.getEventId(), "Validation failed: " + ex.getMessage());
             return;
         }
 
+        long firstAttemptAt = System.nanoTime();
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long startedAt = System.nanoTime();
             try {
-                inventoryReservationService.processOrderPlaced(event);
+                inventoryReservationService.processOrderPlaced(event, trace);
+                long finishedAt = System.nanoTime();
+                backpressureController.recordProcessed(finishedAt - startedAt);
+                if (trace != null) {
+                    hopLatencyRecorder.recordProcessing(finishedAt - firstAttemptAt);
+                }
+                return;
+            } catch (InvalidEventException ex) {
+                // Rejected by a check that needs more than the payload (e.g. dedupe's date window); retrying cannot help.
+                publishDlq(rawEvent, true, event.correlationId(), event.eventId(), "Validation failed: " + ex.getMessage());
                 return;
             } catch (Exception ex) {
+                backpressureController.recordFailure(ex);
                 if (attempt >= maxAttempts) {
-                    publishDlq(rawEvent, event.correlationId(), event.eventId(), ex.getMessage());
+                    publishDlq(rawEvent, true, event.correlationId(), event.eventId(), ex.getMessage());
                     return;
                 }
 
@@ -72,41 +129,10 @@ public class InventoryEventConsumer {
         }
     }
 
-    private void validate(OrderPlacedEvent event) {
-        List<String> errors = new ArrayList<>();
-
-        if (event.eventId() == null || event.eventId().isBlank()) {
-            errors.add("eventId is required");
-        }
-
-        if (event.correlationId() == null || event.correlationId().isBlank()) {
-            errors.add("correlationId is required");
-        }
-
-        if (!"OrderPlaced".equals(event.eventType())) {
-            errors.add("eventType must be OrderPlaced");
-        }
-
-        if (event.payload() == null || event.payload().orderId() == null || event.payload().orderId().isBlank()) {
-            errors.add("payload.orderId is required");
-        }
-
-        if (event.payload() == null || event.payload().items() == null || event.payload().items().isEmpty()) {
-            errors.add("payload.items is required");
-        }
-
-        if (!errors.isEmpty()) {
-            throw new IllegalArgumentException(inventoryEventFactory.firstValidationError(errors));
-        }
-
-        UUID.fromString(event.eventId());
-        UUID.fromString(event.correlationId());
-    }
-
-    private void publishDlq(String originalEventJson, String correlationId, String sourceEventId, String error) {
+    private void publishDlq(byte[] originalEvent, boolean originalIsJson, String correlationId, String sourceEventId, String error) {
         try {
             String safeCorrelationId = inventoryEventFactory.safeCorrelationId(correlationId);
-            String payload = inventoryEventFactory.buildDlqEvent(originalEventJson, safeCorrelationId, sourceEventId, error);
+            String payload = inventoryEventFactory.buildDlqEvent(originalEvent, originalIsJson, safeCorrelationId, sourceEventId, error);
 
             ProducerRecord<String, String> record = new ProducerRecord<>(inventoryDlqTopic, sourceEventId, payload);
             record.headers().add(new RecordHeader("x-source-event-id", sourceEventId.getBytes(StandardCharsets.UTF_8)));
@@ -1,8 +1,12 @@
 package com.eventify.inventoryservice.messaging;
 
+import com.eventify.inventoryservice.domain.StockLevel;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,37 @@ public class InventoryEventFactory {
         return buildEnvelope("OutOfStock", correlationId, payload);
     }
 
+    public String buildInventoryReleased(String correlationId,
+                                         String orderId,
+                                         String reason,
+                                         Map<String, Integer> qtyBySku) throws JsonProcessingException {
+        List<Map<String, Object>> items = new ArrayList<>(qtyBySku.size());
+        for (Map.Entry<String, Integer> entry : qtyBySku.entrySet()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", entry.getKey());
+            item.put("quantity", entry.getValue());
+            items.add(item);
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId);
+        payload.put("reason", reason);
+        payload.put("items", items);
+
+        return buildEnvelope("InventoryReleased", correlationId, payload);
+    }
+
+    /** Compacted-topic value: the SKU's full current state, not an event, so it carries no envelope. */
+    public String buildStockLevel(StockLevel level) throws JsonProcessingException {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("sku", level.sku());
+        snapshot.put("availableQty", level.availableQty());
+        snapshot.put("version", level.version());
+        snapshot.put("updatedAt", OffsetDateTime.now().toString());
+        snapshot.put("producer", "inventory-service");
+        return objectMapper.writeValueAsString(snapshot);
+    }
+
     public String buildDlqEvent(String originalEventJson,
                                 String correlationId,
                                 String sourceEventId,
@@ -45,6 +80,24 @@ public class InventoryEventFactory {
         return buildEnvelope("InventoryEventFailed", correlationId, payload);
     }
 
+    /**
+     * Embeds the consumed bytes as-is instead of re-parsing them into a tree. Input that is not well-formed JSON
+     * is carried as a string so the failure still reaches the DLQ.
+     */
+    public String buildDlqEvent(byte[] originalEvent,
+                                boolean originalIsJson,
+                                String correlationId,
+                                String sourceEventId,
+                                String errorMessage) throws JsonProcessingException {
+        String original = new String(originalEvent, StandardCharsets.UTF_8);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sourceEventId", sourceEventId);
+        payload.put("error", errorMessage);
+        payload.put("originalEvent", originalIsJson ? new RawValue(original) : original);
+
+        return buildEnvelope("InventoryEventFailed", correlationId, payload);
+    }
+
     private String buildEnvelope(String eventType, String correlationId, Map<String, Object> payload) throws JsonProcessingException {
         Map<String, Object> envelope = new LinkedHashMap<>();
         envelope.put("eventId", UUID.randomUUID().toString());
@@ -69,12 +122,4 @@ public class InventoryEventFactory {
             return randomCorrelationId();
         }
     }
-
-    public String firstValidationError(List<String> errors) {
-        if (errors.isEmpty()) {
-            return "Unknown validation error";
-        }
-
-        return errors.get(0);
-    }
 }
@@ -0,0 +1,59 @@
+package com.eventify.inventoryservice.messaging;
+
+import com.eventify.inventoryservice.service.ReservationReleaseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderLifecycleConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderLifecycleConsumer.class);
+
+    private final ObjectMapper objectMapper;
+    private final ReservationReleaseService reservationReleaseService;
+
+    public OrderLifecycleConsumer(ObjectMapper objectMapper, ReservationReleaseService reservationReleaseService) {
+        this.objectMapper = objectMapper;
+        this.reservationReleaseService = reservationReleaseService;
+    }
+
+    @KafkaListener(topics = "${app.kafka.lifecycle-topic:order.lifecycle.events}")
+    public void onLifecycleEvent(byte[] rawEvent) throws Exception {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(rawEvent);
+        } catch (Exception ex) {
+            log.warn("Ignoring unreadable lifecycle event: {}", ex.getMessage());
+            return;
+        }
+
+        String eventType = event.path("eventType").asText();
+        String orderId = event.path("payload").path("orderId").asText();
+        String correlationId = event.path("correlationId").asText(null);
+        if (orderId.isBlank()) {
+            return;
+        }
+
+        switch (eventType) {
+            case "OrderConfirmed" -> {
+                if (reservationReleaseService.commit(orderId)) {
+                    log.info("Committed reservations orderId={} correlationId={}", orderId, correlationId);
+                }
+            }
+            case "OrderCancelled" -> reservationReleaseService.release(
+                    List.of(orderId),
+                    OffsetDateTime.now(),
+                    "ORDER_CANCELLED",
+                    correlationId
+            );
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.eventify.inventoryservice.messaging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds and validates an OrderPlaced envelope from raw UTF-8 bytes in a single streaming pass: no intermediate
+ * String, tree or error list. Unknown fields are skipped without being materialised.
+ */
+@Component
+public class OrderPlacedEventParser {
+
+    private final JsonFactory jsonFactory;
+
+    public OrderPlacedEventParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Throws {@link InvalidEventException}. Unless it is flagged malformed, the whole input has been read and is
+     * exactly one well-formed JSON value, so callers may embed it verbatim.
+     */
+    public OrderPlacedEvent parse(byte[] raw) {
+        Fields fields = new Fields();
+        try (JsonParser parser = jsonFactory.createParser(raw == null ? new byte[0] : raw)) {
+            InvalidEventException invalid = null;
+            try {
+                readEnvelope(parser, fields);
+            } catch (InvalidEventException ex) {
+                invalid = ex;
+            } catch (InputCoercionException ex) {
+                invalid = fields.invalid(ex.getOriginalMessage());
+            }
+
+            // A check can fail part-way through the document; the rest must still be read to know it is well-formed.
+            requireSingleValue(parser);
+            if (invalid != null) {
+                throw invalid;
+            }
+        } catch (JsonParseException ex) {
+            throw new InvalidEventException("Malformed JSON: " + ex.getOriginalMessage(), fields.eventId, fields.correlationId, true);
+        } catch (IOException ex) {
+            throw new InvalidEventException(ex.getMessage(), fields.eventId, fields.correlationId, true);
+        }
+
+        return fields.validate();
+    }
+
+    private void readEnvelope(JsonParser parser, Fields fields) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == null) {
+            throw new InvalidEventException("Malformed JSON: event is empty", null, null, true);
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw fields.invalid("event must be a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "eventId" -> fields.eventId = text(parser, token);
+                case "eventType" -> fields.eventType = text(parser, token);
+                case "occurredAt" -> fields.occurredAt = text(parser, token);
+                case "correlationId" -> fields.correlationId = text(parser, token);
+                case "producer" -> fields.producer = text(parser, token);
+                case "version" -> fields.version = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : skip(parser, 0);
+                case "payload" -> parsePayload(parser, token, fields);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void requireSingleValue(JsonParser parser) throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end-of-input");
+            }
+        }
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Unexpected content after the event");
+        }
+    }
+
+    private void parsePayload(JsonParser parser, JsonToken token, Fields fields) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        fields.payloadPresent = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("orderId".equals(name)) {
+                fields.orderId = text(parser, valueToken);
+            } else if ("items".equals(name) && valueToken == JsonToken.START_ARRAY) {
+                fields.items = parseItems(parser, fields);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private List<OrderPlacedEvent.Item> parseItems(JsonParser parser, Fields fields) throws IOException {
+        List<OrderPlacedEvent.Item> items = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw fields.invalid("payload.items[" + items.size() + "] must be an object");
+            }
+
+            String sku = null;
+            int quantity = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("sku".equals(name)) {
+                    sku = text(parser, valueToken);
+                } else if ("quantity".equals(name) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    quantity = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (sku == null || sku.isBlank()) {
+                throw fields.invalid("payload.items[" + items.size() + "].sku is required");
+            }
+            if (quantity < 1) {
+                throw fields.invalid("payload.items[" + items.size() + "].quantity must be a positive integer");
+            }
+            items.add(new OrderPlacedEvent.Item(sku, quantity));
+        }
+        return items;
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+
+        parser.skipChildren();
+        return null;
+    }
+
+    private static int skip(JsonParser parser, int fallback) throws IOException {
+        parser.skipChildren();
+        return fallback;
+    }
+
+    static boolean isUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Fields {
+
+        private String eventId;
+        private String eventType;
+        private String occurredAt;
+        private String correlationId;
+        private String producer;
+        private int version;
+        private boolean payloadPresent;
+        private String orderId;
+        private List<OrderPlacedEvent.Item> items;
+
+        private InvalidEventException invalid(String message) {
+            return new InvalidEventException(message, eventId, correlationId, false);
+        }
+
+        private OrderPlacedEvent validate() {
+            if (eventId == null || eventId.isBlank()) {
+                throw invalid("eventId is required");
+            }
+            if (correlationId == null || correlationId.isBlank()) {
+                throw invalid("correlationId is required");
+            }
+            if (!"OrderPlaced".equals(eventType)) {
+                throw invalid("eventType must be OrderPlaced");
+            }
+            if (!isTimestamp(occurredAt)) {
+                throw invalid("occurredAt must be an ISO-8601 timestamp");
+            }
+            if (!payloadPresent || orderId == null || orderId.isBlank()) {
+                throw invalid("payload.orderId is required");
+            }
+            if (items == null || items.isEmpty()) {
+                throw invalid("payload.items is required");
+            }
+            if (!isUuid(eventId)) {
+                throw invalid("eventId must be a UUID");
+            }
+            if (!isUuid(correlationId)) {
+                throw invalid("correlationId must be a UUID");
+            }
+
+            return new OrderPlacedEvent(
+                    eventId,
+                    eventType,
+                    occurredAt,
+                    correlationId,
+                    producer,
+                    version,
+                    new OrderPlacedEvent.Payload(orderId, items)
+            );
+        }
+
+        private static boolean isTimestamp(String value) {
+            if (value == null || value.isBlank()) {
+                return false;
+            }
+
+            try {
+                OffsetDateTime.parse(value);
+                return true;
+            } catch (DateTimeParseException ex) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.eventify.inventoryservice.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Undoes the {@code content-encoding} order-service sets on large OrderPlaced payloads. Records without the header
+ * pass through untouched. Unknown encodings, corrupt gzip and bodies that inflate past the configured limit are
+ * rejected as malformed so the consumer routes them to the DLQ instead of retrying.
+ */
+@Component
+public class PayloadDecoder {
+
+    public static final String CONTENT_ENCODING = "content-encoding";
+
+    private final int maxDecodedBytes;
+
+    public PayloadDecoder(@Value("${app.kafka.max-decoded-bytes:16777216}") int maxDecodedBytes) {
+        this.maxDecodedBytes = maxDecodedBytes;
+    }
+
+    public byte[] decode(byte[] value, Headers headers) {
+        Header header = headers.lastHeader(CONTENT_ENCODING);
+        if (header == null || header.value() == null) {
+            return value;
+        }
+
+        String encoding = new String(header.value(), StandardCharsets.US_ASCII);
+        if (!"gzip".equals(encoding)) {
+            throw new InvalidEventException("Unsupported content-encoding: " + encoding, null, null, true);
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            byte[] decoded = in.readNBytes(maxDecodedBytes + 1);
+            if (decoded.length > maxDecodedBytes) {
+                throw new InvalidEventException("Decoded payload exceeds " + maxDecodedBytes + " bytes", null, null, true);
+            }
+            return decoded;
+        } catch (IOException ex) {
+            throw new InvalidEventException("Corrupt gzip payload: " + ex.getMessage(), null, null, true);
+        }
+    }
+}
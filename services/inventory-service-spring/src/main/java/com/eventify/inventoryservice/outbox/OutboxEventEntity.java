@@ -0,0 +1,109 @@
+package com.eventify.inventoryservice.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "inventory_outbox", indexes = @Index(name = "idx_inventory_outbox_status_created", columnList = "status, createdAt"))
+public class OutboxEventEntity {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    /** Order intake time carried over from a sampled OrderPlaced; {@code null} for untraced events. */
+    @Column(name = "intake_at")
+    private OffsetDateTime intakeAt;
+
+    protected OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(String id, String aggregateId, String eventType, String topic, String payload, OffsetDateTime createdAt) {
+        this.id = id;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public OutboxEventEntity(String id,
+                             String aggregateId,
+                             String eventType,
+                             String topic,
+                             String payload,
+                             OffsetDateTime createdAt,
+                             OffsetDateTime intakeAt) {
+        this(id, aggregateId, eventType, topic, payload, createdAt);
+        this.intakeAt = intakeAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getIntakeAt() {
+        return intakeAt;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public OffsetDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void markSent(OffsetDateTime at) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = at;
+    }
+}
@@ -0,0 +1,13 @@
+package com.eventify.inventoryservice.outbox;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, String> {
+
+    @Query(value = "SELECT * FROM inventory_outbox WHERE status = 'PENDING' ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEventEntity> lockPendingBatch(@Param("limit") int limit);
+}
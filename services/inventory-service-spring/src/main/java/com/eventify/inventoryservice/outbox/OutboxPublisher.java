@@ -0,0 +1,116 @@
+package com.eventify.inventoryservice.outbox;
+
+import com.eventify.inventoryservice.tracing.HopLatencyRecorder;
+import com.eventify.inventoryservice.tracing.TraceHeaders;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OutboxPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaOperations<String, String> kafkaOperations;
+    private final TransactionTemplate transactionTemplate;
+    private final HopLatencyRecorder hopLatencyRecorder;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs = 10000;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository,
+                           KafkaOperations<String, String> kafkaOperations,
+                           TransactionTemplate transactionTemplate,
+                           HopLatencyRecorder hopLatencyRecorder) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaOperations = kafkaOperations;
+        this.transactionTemplate = transactionTemplate;
+        this.hopLatencyRecorder = hopLatencyRecorder;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:200}")
+    public void publishPending() {
+        int published;
+        do {
+            Integer count = transactionTemplate.execute(status -> publishBatch());
+            published = count == null ? 0 : count;
+        } while (published == batchSize);
+    }
+
+    /**
+     * Sends the batch in one pipeline, then marks rows SENT in created_at order. Once a send fails, later events of
+     * the same aggregate stay PENDING even if their own send succeeded, so the next poll republishes them after the
+     * failed one and consumers (which dedupe by eventId) never see an aggregate's events out of order for good.
+     */
+    private int publishBatch() {
+        List<OutboxEventEntity> pendingEvents = outboxEventRepository.lockPendingBatch(batchSize);
+        if (pendingEvents.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(pendingEvents.size());
+        for (OutboxEventEntity event : pendingEvents) {
+            sends.add(event.getIntakeAt() == null
+                    ? kafkaOperations.send(event.getTopic(), event.getAggregateId(), event.getPayload())
+                    : kafkaOperations.send(tracedRecord(event)));
+        }
+
+        int sent = 0;
+        Set<String> failedAggregates = new HashSet<>();
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            OutboxEventEntity event = pendingEvents.get(i);
+            if (failedAggregates.contains(event.getAggregateId())) {
+                log.warn("Outbox event {} held back behind a failed event of aggregateId={}", event.getId(), event.getAggregateId());
+                continue;
+            }
+            try {
+                sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                event.markSent(OffsetDateTime.now());
+                sent++;
+                if (event.getIntakeAt() != null) {
+                    hopLatencyRecorder.recordOutcomePublished(
+                            event.getIntakeAt().toInstant().toEpochMilli(),
+                            event.getCreatedAt().toInstant().toEpochMilli(),
+                            System.currentTimeMillis()
+                    );
+                }
+                log.info("Published outbox event {} of type {} aggregateId={}", event.getId(), event.getEventType(), event.getAggregateId());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.error("Outbox publish interrupted for event {}", event.getId(), ex);
+                return sent;
+            } catch (Exception ex) {
+                failedAggregates.add(event.getAggregateId());
+                log.error("Outbox publish failed for event {}", event.getId(), ex);
+            }
+        }
+
+        return sent;
+    }
+
+    /** Forwards the order's intake stamp and adds this relay's own outbox and publish stamps. */
+    private ProducerRecord<String, String> tracedRecord(OutboxEventEntity event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(event.getTopic(), event.getAggregateId(), event.getPayload());
+        TraceHeaders.putMillis(record.headers(), TraceHeaders.INTAKE_MS, event.getIntakeAt().toInstant().toEpochMilli());
+        TraceHeaders.putMillis(record.headers(), TraceHeaders.OUTBOX_MS, event.getCreatedAt().toInstant().toEpochMilli());
+        TraceHeaders.putMillis(record.headers(), TraceHeaders.PUBLISH_MS, System.currentTimeMillis());
+        return record;
+    }
+}
@@ -0,0 +1,6 @@
+package com.eventify.inventoryservice.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT
+}
@@ -0,0 +1,4 @@
+package com.eventify.inventoryservice.profiling;
+
+public record HotSkuEntry(String sku, double value, double maxOverestimate) {
+}
@@ -0,0 +1,92 @@
+package com.eventify.inventoryservice.profiling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks which SKUs take the most reserved units and the most row-lock wait, using bounded Space-Saving
+ * summaries instead of per-SKU meters so metric cardinality stays fixed. Counters decay on a schedule, so the
+ * table reflects recent load. Stage timers and the consumer lag gauge go to Micrometer.
+ */
+@Component
+public class HotSkuProfiler {
+
+    private final SpaceSavingTopK reservedUnits;
+    private final SpaceSavingTopK lockWaitMs;
+    private final Map<ReservationStage, Timer> stageTimers = new EnumMap<>(ReservationStage.class);
+    private final AtomicLong consumerLagMs = new AtomicLong();
+
+    @Value("${app.profiling.decay-interval-ms:60000}")
+    private long decayIntervalMs;
+
+    @Value("${app.profiling.decay-factor:0.5}")
+    private double decayFactor;
+
+    public HotSkuProfiler(MeterRegistry meterRegistry, @Value("${app.profiling.top-k-capacity:256}") int capacity) {
+        this.reservedUnits = new SpaceSavingTopK(capacity);
+        this.lockWaitMs = new SpaceSavingTopK(capacity);
+
+        for (ReservationStage stage : ReservationStage.values()) {
+            stageTimers.put(stage, Timer.builder("inventory.reservation.stage")
+                    .description("Time spent in each stage of an OrderPlaced reservation")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("inventory.consumer.lag", consumerLagMs, AtomicLong::get)
+                .description("Age of the last OrderPlaced record when the listener picked it up")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("inventory.hot-skus.tracked", reservedUnits, SpaceSavingTopK::size)
+                .description("SKUs currently held in the hot-SKU summary")
+                .register(meterRegistry);
+    }
+
+    public void recordStage(ReservationStage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockWait(String sku, long nanos) {
+        lockWaitMs.add(sku, nanos / 1_000_000.0);
+    }
+
+    public void recordReserved(String sku, int quantity) {
+        reservedUnits.add(sku, quantity);
+    }
+
+    public void recordConsumed(long recordTimestampMs) {
+        if (recordTimestampMs > 0) {
+            consumerLagMs.set(Math.max(0, System.currentTimeMillis() - recordTimestampMs));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.profiling.decay-interval-ms:60000}")
+    public void decay() {
+        reservedUnits.decay(decayFactor);
+        lockWaitMs.decay(decayFactor);
+    }
+
+    public HotSkuReport report(int limit) {
+        return new HotSkuReport(
+                decayIntervalMs,
+                decayFactor,
+                toEntries(reservedUnits.top(limit)),
+                toEntries(lockWaitMs.top(limit))
+        );
+    }
+
+    private static List<HotSkuEntry> toEntries(List<SpaceSavingTopK.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new HotSkuEntry(entry.key(), entry.weight(), entry.error()))
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.eventify.inventoryservice.profiling;
+
+import java.util.List;
+
+public record HotSkuReport(
+        long decayIntervalMs,
+        double decayFactor,
+        List<HotSkuEntry> byReservedUnits,
+        List<HotSkuEntry> byLockWaitMs
+) {
+}
@@ -0,0 +1,8 @@
+package com.eventify.inventoryservice.profiling;
+
+public enum ReservationStage {
+    DEDUPE,
+    LOCK,
+    DECREMENT,
+    PUBLISH
+}
@@ -0,0 +1,146 @@
+package com.eventify.inventoryservice.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter summary over a fixed number of counters. Any key whose true weight exceeds
+ * total / capacity is guaranteed to be tracked; a reported weight overestimates the true one by at most its
+ * {@code error}. Counters sit in an indexed min-heap, so both increments and evictions are O(log capacity).
+ */
+public class SpaceSavingTopK {
+
+    private final Map<String, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public synchronized void add(String key, double weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.weight += weight;
+            siftDown(counter.index);
+            return;
+        }
+
+        if (size < heap.length) {
+            counter = new Counter(key, weight, 0);
+            counter.index = size;
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.index);
+            return;
+        }
+
+        // Take over the smallest counter; its weight becomes the newcomer's overestimation bound.
+        Counter min = heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.weight;
+        min.weight += weight;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    /** Scales every counter so the summary tracks a recent rate rather than an all-time total. */
+    public synchronized void decay(double factor) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Counter counter = heap[i];
+            counter.weight *= factor;
+            counter.error *= factor;
+            if (counter.weight < 1e-9) {
+                counters.remove(counter.key);
+            } else {
+                counter.index = kept;
+                heap[kept++] = counter;
+            }
+        }
+
+        for (int i = kept; i < size; i++) {
+            heap[i] = null;
+        }
+        size = kept;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    public synchronized List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(heap[i].key, heap[i].weight, heap[i].error));
+        }
+
+        entries.sort(Comparator.comparingDouble(Entry::weight).reversed());
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].weight <= counter.weight) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].weight < heap[child].weight) {
+                child = right;
+            }
+            if (counter.weight <= heap[child].weight) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    public record Entry(String key, double weight, double error) {
+    }
+
+    private static final class Counter {
+
+        private String key;
+        private double weight;
+        private double error;
+        private int index;
+
+        private Counter(String key, double weight, double error) {
+            this.key = key;
+            this.weight = weight;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.eventify.inventoryservice.rebalance;
+
+import com.eventify.inventoryservice.profiling.HotSkuEntry;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.service.StockQueryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebalance callbacks for the OrderPlaced listener. Records are handled on the consumer thread, so when Kafka calls
+ * back from inside {@code poll()} every record already handed to the listener has finished, retries included.
+ * On revocation the exact next offset of each revoked partition is committed, so the new owner resumes at the
+ * first unhandled record instead of redelivering the tail of the last batch. With the cooperative assignor only
+ * the partitions that actually move are revoked, and the other partitions keep being processed.
+ *
+ * <p>On assignment the stock cache is warmed with the hottest SKUs off the consumer thread. Two timers measure the
+ * handoff:
+ * <ul>
+ *   <li>{@code inventory.rebalance.first-record}: assignment to the first record handled on that partition.</li>
+ *   <li>{@code inventory.rebalance.handoff-lag}: age of that record. Under steady load this is the processing gap
+ *   the move caused.</li>
+ * </ul>
+ */
+@Component
+public class PartitionHandoffListener implements ConsumerAwareRebalanceListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionHandoffListener.class);
+
+    private final HotSkuProfiler hotSkuProfiler;
+    private final StockQueryService stockQueryService;
+    private final Map<TopicPartition, Long> handledOffsets = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> assignedAtNanos = new ConcurrentHashMap<>();
+    private final Timer revokeTimer;
+    private final Timer firstRecordTimer;
+    private final Timer handoffLagTimer;
+    private final Counter assignedCounter;
+    private final Counter revokedCounter;
+    private final Counter lostCounter;
+    private final ExecutorService warmer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-assignment-warmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.rebalance.commit-timeout-ms:5000}")
+    private long commitTimeoutMs;
+
+    @Value("${app.rebalance.warm-top-skus:100}")
+    private int warmTopSkus;
+
+    public PartitionHandoffListener(HotSkuProfiler hotSkuProfiler, StockQueryService stockQueryService, MeterRegistry meterRegistry) {
+        this.hotSkuProfiler = hotSkuProfiler;
+        this.stockQueryService = stockQueryService;
+        this.revokeTimer = Timer.builder("inventory.rebalance.revoke")
+                .description("Time spent committing handled offsets for revoked partitions")
+                .register(meterRegistry);
+        this.firstRecordTimer = Timer.builder("inventory.rebalance.first-record")
+                .description("Partition assignment to the first record handled on it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.handoffLagTimer = Timer.builder("inventory.rebalance.handoff-lag")
+                .description("Age of the first record handled on a newly assigned partition")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.assignedCounter = partitionCounter(meterRegistry, "assigned");
+        this.revokedCounter = partitionCounter(meterRegistry, "revoked");
+        this.lostCounter = partitionCounter(meterRegistry, "lost");
+    }
+
+    /** Called once a record is fully handled, whether it was processed or sent to the DLQ. */
+    public void recordHandled(ConsumerRecord<?, ?> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        handledOffsets.put(partition, record.offset() + 1);
+
+        Long assignedAt = assignedAtNanos.remove(partition);
+        if (assignedAt != null) {
+            firstRecordTimer.record(System.nanoTime() - assignedAt, TimeUnit.NANOSECONDS);
+            handoffLagTimer.record(Math.max(0, System.currentTimeMillis() - record.timestamp()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            assignedAtNanos.remove(partition);
+            Long next = handledOffsets.remove(partition);
+            if (next != null) {
+                offsets.put(partition, new OffsetAndMetadata(next));
+            }
+        }
+
+        try {
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets, Duration.ofMillis(commitTimeoutMs));
+            }
+            log.info("Partitions revoked partitions={} committed={}", partitions, offsets);
+        } catch (Exception ex) {
+            log.warn("Commit on revocation failed; the new owner may redeliver partitions={}", partitions, ex);
+        } finally {
+            revokedCounter.increment(partitions.size());
+            revokeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            handledOffsets.remove(partition);
+            assignedAtNanos.remove(partition);
+        }
+        lostCounter.increment(partitions.size());
+        log.warn("Partitions lost without revocation partitions={}", partitions);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (TopicPartition partition : partitions) {
+            assignedAtNanos.put(partition, now);
+        }
+        assignedCounter.increment(partitions.size());
+        log.info("Partitions assigned partitions={}", partitions);
+        warmer.execute(this::warmStockCache);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmer.shutdownNow();
+    }
+
+    private void warmStockCache() {
+        try {
+            List<String> skus = hotSkuProfiler.report(warmTopSkus).byReservedUnits().stream()
+                    .map(HotSkuEntry::sku)
+                    .toList();
+            if (!skus.isEmpty()) {
+                stockQueryService.findAll(skus);
+            }
+        } catch (Exception ex) {
+            log.debug("Stock cache warm-up skipped: {}", ex.getMessage());
+        }
+    }
+
+    private static Counter partitionCounter(MeterRegistry meterRegistry, String event) {
+        return Counter.builder("inventory.rebalance.partitions")
+                .description("Partitions moved by rebalances")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+}
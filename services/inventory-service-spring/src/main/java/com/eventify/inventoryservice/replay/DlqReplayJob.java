@@ -0,0 +1,132 @@
+package com.eventify.inventoryservice.replay;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DlqReplayJob {
+
+    private static final int MAX_SAMPLE_ERRORS = 20;
+
+    private final String id;
+    private final DlqReplayRequest request;
+    private final OffsetDateTime createdAt;
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong skippedProcessed = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<String> sampleErrors = new CopyOnWriteArrayList<>();
+
+    private volatile DlqReplayStatus status = DlqReplayStatus.QUEUED;
+    private volatile long totalRecords;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+    private volatile boolean cancelRequested;
+
+    DlqReplayJob(String id, DlqReplayRequest request) {
+        this.id = id;
+        this.request = request;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public DlqReplayRequest getRequest() {
+        return request;
+    }
+
+    public DlqReplayStatus getStatus() {
+        return status;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public OffsetDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getTotalRecords() {
+        return totalRecords;
+    }
+
+    public long getScanned() {
+        return scanned.get();
+    }
+
+    public long getMatched() {
+        return matched.get();
+    }
+
+    public long getSkippedProcessed() {
+        return skippedProcessed.get();
+    }
+
+    public long getReplayed() {
+        return replayed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public List<String> getSampleErrors() {
+        return sampleErrors;
+    }
+
+    public double getPercentComplete() {
+        long total = totalRecords;
+        return total == 0 ? (status == DlqReplayStatus.COMPLETED ? 100.0 : 0.0) : Math.min(100.0, scanned.get() * 100.0 / total);
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void start(long totalRecords) {
+        this.totalRecords = totalRecords;
+        this.startedAt = OffsetDateTime.now();
+        this.status = DlqReplayStatus.RUNNING;
+    }
+
+    void finish(DlqReplayStatus finalStatus) {
+        this.finishedAt = OffsetDateTime.now();
+        this.status = finalStatus;
+    }
+
+    void recordScanned() {
+        scanned.incrementAndGet();
+    }
+
+    void recordMatched() {
+        matched.incrementAndGet();
+    }
+
+    void recordSkippedProcessed() {
+        skippedProcessed.incrementAndGet();
+    }
+
+    void recordReplayed() {
+        replayed.incrementAndGet();
+    }
+
+    void recordFailed(String error) {
+        failed.incrementAndGet();
+        if (sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+            sampleErrors.add(error);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.eventify.inventoryservice.replay;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * Selects which inventory.dlq records to replay. Every filter is optional; {@code errorContains} is matched
+ * against the {@code x-error} header and {@code eventIds} against the record key, so neither needs the payload.
+ */
+public record DlqReplayRequest(
+        String errorContains,
+        OffsetDateTime from,
+        OffsetDateTime to,
+        Set<String> eventIds,
+        Double ratePerSecond,
+        Long maxRecords
+) {
+}
@@ -0,0 +1,287 @@
+package com.eventify.inventoryservice.replay;
+
+import com.eventify.inventoryservice.dedupe.EventDeduplicator;
+import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.messaging.OrderPlacedEventParser;
+import com.eventify.inventoryservice.service.InventoryReservationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replays inventory.dlq records through {@link InventoryReservationService} on a single dedicated thread, paced to
+ * a fixed rate, so an incident backlog drains without competing with the live listener for more than one DB
+ * connection at a time. Each job reads the DLQ up to the end offsets captured when it started.
+ */
+@Service
+public class DlqReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(DlqReplayService.class);
+
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final ObjectMapper objectMapper;
+    private final OrderPlacedEventParser orderPlacedEventParser;
+    private final EventDeduplicator eventDeduplicator;
+    private final InventoryReservationService inventoryReservationService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-dlq-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, DlqReplayJob> jobs = new LinkedHashMap<>();
+
+    @Value("${app.kafka.inventory-dlq-topic:inventory.dlq}")
+    private String inventoryDlqTopic;
+
+    @Value("${app.dlq-replay.default-rate-per-second:50}")
+    private double defaultRatePerSecond;
+
+    @Value("${app.dlq-replay.max-rate-per-second:500}")
+    private double maxRatePerSecond;
+
+    public DlqReplayService(ConsumerFactory<String, String> consumerFactory,
+                            ObjectMapper objectMapper,
+                            OrderPlacedEventParser orderPlacedEventParser,
+                            EventDeduplicator eventDeduplicator,
+                            InventoryReservationService inventoryReservationService) {
+        this.consumerFactory = consumerFactory;
+        this.objectMapper = objectMapper;
+        this.orderPlacedEventParser = orderPlacedEventParser;
+        this.eventDeduplicator = eventDeduplicator;
+        this.inventoryReservationService = inventoryReservationService;
+    }
+
+    public synchronized DlqReplayJob submit(DlqReplayRequest request) {
+        if (request.from() != null && request.to() != null && request.from().isAfter(request.to())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (request.ratePerSecond() != null && (request.ratePerSecond() <= 0 || request.ratePerSecond() > maxRatePerSecond)) {
+            throw new IllegalArgumentException("ratePerSecond must be in (0, " + maxRatePerSecond + "]");
+        }
+
+        DlqReplayJob job = new DlqReplayJob(UUID.randomUUID().toString(), request);
+        jobs.put(job.getId(), job);
+        evictFinishedJobs();
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    public synchronized Optional<DlqReplayJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public synchronized List<DlqReplayJob> list() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    public synchronized Optional<DlqReplayJob> cancel(String jobId) {
+        DlqReplayJob job = jobs.get(jobId);
+        if (job != null) {
+            job.requestCancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(DlqReplayJob::requestCancel);
+        }
+        executor.shutdownNow();
+    }
+
+    private void run(DlqReplayJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(DlqReplayStatus.CANCELLED);
+            return;
+        }
+
+        DlqReplayRequest request = job.getRequest();
+        RatePacer pacer = new RatePacer(request.ratePerSecond() == null ? defaultRatePerSecond : request.ratePerSecond());
+
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(
+                "inventory-dlq-replay", "inventory-dlq-replay", job.getId(), replayConsumerProperties())) {
+            List<TopicPartition> partitions = consumer.partitionsFor(inventoryDlqTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, Long> startOffsets = startOffsets(consumer, partitions, endOffsets, request);
+            Set<TopicPartition> remaining = new HashSet<>();
+            long total = 0;
+            for (TopicPartition partition : partitions) {
+                long start = startOffsets.get(partition);
+                long end = endOffsets.get(partition);
+                consumer.seek(partition, start);
+                if (start < end) {
+                    remaining.add(partition);
+                    total += end - start;
+                }
+            }
+            consumer.pause(difference(partitions, remaining));
+
+            job.start(total);
+            log.info("DLQ replay started jobId={} records={}", job.getId(), total);
+
+            while (!remaining.isEmpty() && !job.isCancelRequested() && !limitReached(job, request)) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    long end = endOffsets.get(partition);
+                    if (record.offset() >= end || !remaining.contains(partition)) {
+                        continue;
+                    }
+
+                    job.recordScanned();
+                    if (matches(record, request)) {
+                        job.recordMatched();
+                        pacer.acquire();
+                        replay(job, record);
+                    }
+
+                    if (record.offset() + 1 >= end) {
+                        remaining.remove(partition);
+                        consumer.pause(List.of(partition));
+                    }
+                    if (job.isCancelRequested() || limitReached(job, request)) {
+                        break;
+                    }
+                }
+            }
+
+            job.finish(job.isCancelRequested() ? DlqReplayStatus.CANCELLED : DlqReplayStatus.COMPLETED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.finish(DlqReplayStatus.CANCELLED);
+        } catch (Exception ex) {
+            log.error("DLQ replay failed jobId={}", job.getId(), ex);
+            job.recordFailed("Replay aborted: " + ex.getMessage());
+            job.finish(DlqReplayStatus.FAILED);
+        }
+
+        log.info("DLQ replay finished jobId={} status={} scanned={} matched={} replayed={} skippedProcessed={} failed={}",
+                job.getId(), job.getStatus(), job.getScanned(), job.getMatched(), job.getReplayed(),
+                job.getSkippedProcessed(), job.getFailed());
+    }
+
+    private boolean matches(ConsumerRecord<String, String> record, DlqReplayRequest request) {
+        if (request.to() != null && record.timestamp() > request.to().toInstant().toEpochMilli()) {
+            return false;
+        }
+        if (request.eventIds() != null && !request.eventIds().isEmpty() && !request.eventIds().contains(record.key())) {
+            return false;
+        }
+        if (request.errorContains() != null && !request.errorContains().isBlank()) {
+            Header error = record.headers().lastHeader("x-error");
+            return error != null && new String(error.value(), StandardCharsets.UTF_8).contains(request.errorContains());
+        }
+        return true;
+    }
+
+    private void replay(DlqReplayJob job, ConsumerRecord<String, String> record) {
+        try {
+            JsonNode originalEvent = objectMapper.readTree(record.value()).path("payload").path("originalEvent");
+            byte[] raw = originalEvent.isTextual()
+                    ? originalEvent.asText().getBytes(StandardCharsets.UTF_8)
+                    : objectMapper.writeValueAsBytes(originalEvent);
+
+            OrderPlacedEvent event = orderPlacedEventParser.parse(raw);
+
+            if (eventDeduplicator.isProcessed(event.eventId())) {
+                job.recordSkippedProcessed();
+                return;
+            }
+
+            if (inventoryReservationService.processOrderPlaced(event)) {
+                job.recordReplayed();
+            } else {
+                job.recordSkippedProcessed();
+            }
+        } catch (Exception ex) {
+            job.recordFailed("offset " + record.partition() + ":" + record.offset() + " key=" + record.key() + ": " + ex.getMessage());
+        }
+    }
+
+    private Map<TopicPartition, Long> startOffsets(Consumer<String, String> consumer,
+                                                   List<TopicPartition> partitions,
+                                                   Map<TopicPartition, Long> endOffsets,
+                                                   DlqReplayRequest request) {
+        if (request.from() == null) {
+            return consumer.beginningOffsets(partitions);
+        }
+
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        long fromMs = request.from().toInstant().toEpochMilli();
+        partitions.forEach(partition -> timestamps.put(partition, fromMs));
+
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(timestamps);
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = found.get(partition);
+            offsets.put(partition, offset == null ? endOffsets.get(partition) : offset.offset());
+        }
+        return offsets;
+    }
+
+    private boolean limitReached(DlqReplayJob job, DlqReplayRequest request) {
+        return request.maxRecords() != null && job.getMatched() >= request.maxRecords();
+    }
+
+    private Properties replayConsumerProperties() {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "100");
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        return properties;
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() <= MAX_RETAINED_JOBS) {
+            return;
+        }
+
+        jobs.values().removeIf(job -> jobs.size() > MAX_RETAINED_JOBS
+                && job.getStatus() != DlqReplayStatus.QUEUED
+                && job.getStatus() != DlqReplayStatus.RUNNING);
+    }
+
+    private static Collection<TopicPartition> difference(List<TopicPartition> all, Set<TopicPartition> keep) {
+        List<TopicPartition> result = new ArrayList<>();
+        for (TopicPartition partition : all) {
+            if (!keep.contains(partition)) {
+                result.add(partition);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,9 @@
+package com.eventify.inventoryservice.replay;
+
+public enum DlqReplayStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
@@ -1,21 +1,30 @@
 package com.eventify.inventoryservice.service;
 
-import com.eventify.inventoryservice.domain.InventoryItemEntity;
-import com.eventify.inventoryservice.domain.InventoryItemRepository;
-import com.eventify.inventoryservice.domain.InventoryReservationEntity;
-import com.eventify.inventoryservice.domain.InventoryReservationRepository;
+import com.eventify.inventoryservice.dedupe.EventDeduplicator;
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore.ReservationLine;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import com.eventify.inventoryservice.domain.StockTake;
 import com.eventify.inventoryservice.messaging.InventoryEventFactory;
 import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.outbox.OutboxEventEntity;
+import com.eventify.inventoryservice.outbox.OutboxEventRepository;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.profiling.ReservationStage;
+import com.eventify.inventoryservice.tracing.TraceContext;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,100 +33,129 @@ public class InventoryReservationService {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryReservationService.class);
 
-    private final InventoryItemRepository inventoryItemRepository;
-    private final InventoryReservationRepository inventoryReservationRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final StockLedger stockLedger;
+    private final ReservationStore reservationStore;
+    private final OutboxEventRepository outboxEventRepository;
     private final InventoryEventFactory inventoryEventFactory;
-    private final JdbcTemplate jdbcTemplate;
+    private final EventDeduplicator eventDeduplicator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final HotSkuProfiler hotSkuProfiler;
 
     @Value("${app.kafka.inventory-topic:inventory.events}")
     private String inventoryTopic;
 
-    public InventoryReservationService(InventoryItemRepository inventoryItemRepository,
-                                       InventoryReservationRepository inventoryReservationRepository,
-                                       KafkaTemplate<String, String> kafkaTemplate,
+    public InventoryReservationService(StockLedger stockLedger,
+                                       ReservationStore reservationStore,
+                                       OutboxEventRepository outboxEventRepository,
                                        InventoryEventFactory inventoryEventFactory,
-                                       JdbcTemplate jdbcTemplate) {
-        this.inventoryItemRepository = inventoryItemRepository;
-        this.inventoryReservationRepository = inventoryReservationRepository;
-        this.kafkaTemplate = kafkaTemplate;
+                                       EventDeduplicator eventDeduplicator,
+                                       ApplicationEventPublisher applicationEventPublisher,
+                                       HotSkuProfiler hotSkuProfiler) {
+        this.stockLedger = stockLedger;
+        this.reservationStore = reservationStore;
+        this.outboxEventRepository = outboxEventRepository;
         this.inventoryEventFactory = inventoryEventFactory;
-        this.jdbcTemplate = jdbcTemplate;
+        this.eventDeduplicator = eventDeduplicator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.hotSkuProfiler = hotSkuProfiler;
     }
 
     @Transactional
     public boolean processOrderPlaced(OrderPlacedEvent event) throws Exception {
+        return processOrderPlaced(event, null);
+    }
+
+    /** {@code trace} is the sampled order's hop stamps, or {@code null}; traced outcomes carry its intake time. */
+    @Transactional
+    public boolean processOrderPlaced(OrderPlacedEvent event, TraceContext trace) throws Exception {
         if (!"OrderPlaced".equals(event.eventType())) {
             return false;
         }
 
-        boolean firstTime = markProcessed(event.eventId());
+        long stageStart = System.nanoTime();
+        boolean firstTime = eventDeduplicator.markProcessed(event.eventId(), event.occurredAt());
+        stageStart = endStage(ReservationStage.DEDUPE, stageStart);
         if (!firstTime) {
             log.info("Duplicate event ignored eventId={} correlationId={}", event.eventId(), event.correlationId());
             return false;
         }
 
         String orderId = event.payload().orderId();
-        List<OrderPlacedEvent.Item> items = event.payload().items();
-        List<InventoryItemEntity> lockedItems = new ArrayList<>();
-
-        for (OrderPlacedEvent.Item item : items) {
-            Optional<InventoryItemEntity> maybeInventory = inventoryItemRepository.findBySkuForUpdate(item.sku());
-            if (maybeInventory.isEmpty() || maybeInventory.get().getAvailableQty() < item.quantity()) {
-                publishOutOfStock(event.correlationId(), orderId);
+        // Take stock in SKU order, the same order releases use, so concurrent transactions cannot deadlock. Lines
+        // repeating a SKU are merged into one take: a second take of a striped SKU could fall back from the bucket
+        // it already holds to locking the item row and all of its buckets, against another order doing the same.
+        Map<String, Integer> lockOrder = new TreeMap<>();
+        for (OrderPlacedEvent.Item item : event.payload().items()) {
+            lockOrder.merge(item.sku(), item.quantity(), Integer::sum);
+        }
+        List<StockTake> takes = new ArrayList<>(lockOrder.size());
+
+        for (Map.Entry<String, Integer> line : lockOrder.entrySet()) {
+            long lockStart = System.nanoTime();
+            StockTake take = stockLedger.take(line.getKey(), line.getValue());
+            hotSkuProfiler.recordLockWait(line.getKey(), System.nanoTime() - lockStart);
+            if (take == null) {
+                for (StockTake taken : takes) {
+                    stockLedger.giveBack(taken);
+                }
+                stageStart = endStage(ReservationStage.LOCK, stageStart);
+                publishOutOfStock(event.correlationId(), orderId, intakeAt(trace));
+                endStage(ReservationStage.PUBLISH, stageStart);
                 return true;
             }
-            lockedItems.add(maybeInventory.get());
+            takes.add(take);
         }
+        stageStart = endStage(ReservationStage.LOCK, stageStart);
 
-        for (InventoryItemEntity inventoryItem : lockedItems) {
-            OrderPlacedEvent.Item requestedItem = findItemBySku(items, inventoryItem.getSku());
-            if (requestedItem == null) {
-                continue;
-            }
-
-            inventoryItem.decrease(requestedItem.quantity());
-            inventoryItemRepository.save(inventoryItem);
-            inventoryReservationRepository.save(new InventoryReservationEntity(
-                    UUID.randomUUID().toString(),
-                    orderId,
-                    requestedItem.sku(),
-                    requestedItem.quantity(),
-                    OffsetDateTime.now()
-            ));
+        OffsetDateTime reservedAt = OffsetDateTime.now();
+        List<ReservationLine> lines = new ArrayList<>(takes.size());
+        for (StockTake take : takes) {
+            hotSkuProfiler.recordReserved(take.sku(), take.quantity());
+            lines.add(new ReservationLine(take.sku(), take.quantity()));
         }
+        reservationStore.insert(orderId, lines, reservedAt);
+
+        List<StockLevel> levels = stockLedger.levelsAfter(takes);
+        stageStart = endStage(ReservationStage.DECREMENT, stageStart);
 
-        publishReserved(event.correlationId(), orderId);
+        applicationEventPublisher.publishEvent(new StockLevelsChangedEvent(levels));
+        applicationEventPublisher.publishEvent(new ReservationCreatedEvent(orderId, reservedAt));
+        publishReserved(event.correlationId(), orderId, intakeAt(trace));
+        endStage(ReservationStage.PUBLISH, stageStart);
         return true;
     }
 
-    private void publishReserved(String correlationId, String orderId) throws Exception {
-        String payload = inventoryEventFactory.buildInventoryReserved(correlationId, orderId);
-        kafkaTemplate.send(inventoryTopic, orderId, payload).get();
-        log.info("Published InventoryReserved orderId={} correlationId={}", orderId, correlationId);
+    private long endStage(ReservationStage stage, long startedAt) {
+        long now = System.nanoTime();
+        hotSkuProfiler.recordStage(stage, now - startedAt);
+        return now;
     }
 
-    private void publishOutOfStock(String correlationId, String orderId) throws Exception {
-        String payload = inventoryEventFactory.buildOutOfStock(correlationId, orderId);
-        kafkaTemplate.send(inventoryTopic, orderId, payload).get();
-        log.info("Published OutOfStock orderId={} correlationId={}", orderId, correlationId);
+    private static OffsetDateTime intakeAt(TraceContext trace) {
+        return trace == null ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(trace.intakeMs()), ZoneOffset.UTC);
     }
 
-    private boolean markProcessed(String eventId) {
-        int updated = jdbcTemplate.update(
-                "INSERT INTO processed_events(event_id, processed_at) VALUES (?, NOW()) ON CONFLICT (event_id) DO NOTHING",
-                eventId
-        );
-        return updated == 1;
+    private void publishReserved(String correlationId, String orderId, OffsetDateTime intakeAt) throws Exception {
+        String payload = inventoryEventFactory.buildInventoryReserved(correlationId, orderId);
+        enqueue(orderId, "InventoryReserved", payload, intakeAt);
+        log.info("Queued InventoryReserved orderId={} correlationId={}", orderId, correlationId);
     }
 
-    private OrderPlacedEvent.Item findItemBySku(List<OrderPlacedEvent.Item> items, String sku) {
-        for (OrderPlacedEvent.Item item : items) {
-            if (item.sku().equals(sku)) {
-                return item;
-            }
-        }
+    private void publishOutOfStock(String correlationId, String orderId, OffsetDateTime intakeAt) throws Exception {
+        String payload = inventoryEventFactory.buildOutOfStock(correlationId, orderId);
+        enqueue(orderId, "OutOfStock", payload, intakeAt);
+        log.info("Queued OutOfStock orderId={} correlationId={}", orderId, correlationId);
+    }
 
-        return null;
+    private void enqueue(String orderId, String eventType, String payload, OffsetDateTime intakeAt) {
+        outboxEventRepository.save(new OutboxEventEntity(
+                UUID.randomUUID().toString(),
+                orderId,
+                eventType,
+                inventoryTopic,
+                payload,
+                OffsetDateTime.now(),
+                intakeAt
+        ));
     }
 }
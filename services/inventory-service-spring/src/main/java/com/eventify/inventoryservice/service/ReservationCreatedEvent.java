@@ -0,0 +1,6 @@
+package com.eventify.inventoryservice.service;
+
+import java.time.OffsetDateTime;
+
+public record ReservationCreatedEvent(String orderId, OffsetDateTime createdAt) {
+}
@@ -0,0 +1,108 @@
+package com.eventify.inventoryservice.service;
+
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore.ReleasedLine;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.messaging.InventoryEventFactory;
+import com.eventify.inventoryservice.outbox.OutboxEventEntity;
+import com.eventify.inventoryservice.outbox.OutboxEventRepository;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ReservationReleaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationReleaseService.class);
+
+    private final ReservationStore reservationStore;
+    private final OutboxEventRepository outboxEventRepository;
+    private final InventoryEventFactory inventoryEventFactory;
+    private final StockLedger stockLedger;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${app.kafka.inventory-topic:inventory.events}")
+    private String inventoryTopic;
+
+    public ReservationReleaseService(ReservationStore reservationStore,
+                                     OutboxEventRepository outboxEventRepository,
+                                     InventoryEventFactory inventoryEventFactory,
+                                     StockLedger stockLedger,
+                                     ApplicationEventPublisher applicationEventPublisher) {
+        this.reservationStore = reservationStore;
+        this.outboxEventRepository = outboxEventRepository;
+        this.inventoryEventFactory = inventoryEventFactory;
+        this.stockLedger = stockLedger;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Releases every still-reserved line of the given orders created at or before {@code createdBefore}, returns the
+     * stock and queues one InventoryReleased event per order. Orders already committed or released are skipped,
+     * so repeated or concurrent calls for the same order are harmless. A {@code null} correlationId gets a fresh one
+     * per order.
+     *
+     * @return number of orders actually released
+     */
+    @Transactional
+    public int release(List<String> orderIds,
+                       OffsetDateTime createdBefore,
+                       String reason,
+                       String correlationId) throws Exception {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<ReleasedLine> releasedLines = reservationStore.releaseReserved(orderIds, createdBefore);
+        if (releasedLines.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Integer> qtyBySku = new TreeMap<>();
+        Map<String, Map<String, Integer>> linesByOrder = new LinkedHashMap<>();
+        for (ReleasedLine line : releasedLines) {
+            qtyBySku.merge(line.sku(), line.qty(), Integer::sum);
+            linesByOrder.computeIfAbsent(line.orderId(), ignored -> new LinkedHashMap<>())
+                    .merge(line.sku(), line.qty(), Integer::sum);
+        }
+
+        stockLedger.restock(qtyBySku);
+        applicationEventPublisher.publishEvent(new StockLevelsChangedEvent(
+                stockLedger.levels(qtyBySku.keySet())
+        ));
+
+        for (Map.Entry<String, Map<String, Integer>> order : linesByOrder.entrySet()) {
+            String payload = inventoryEventFactory.buildInventoryReleased(
+                    correlationId == null ? inventoryEventFactory.randomCorrelationId() : correlationId,
+                    order.getKey(),
+                    reason,
+                    order.getValue()
+            );
+            outboxEventRepository.save(new OutboxEventEntity(
+                    UUID.randomUUID().toString(),
+                    order.getKey(),
+                    "InventoryReleased",
+                    inventoryTopic,
+                    payload,
+                    OffsetDateTime.now()
+            ));
+        }
+
+        log.info("Released reservations orders={} skus={} reason={}", linesByOrder.size(), qtyBySku.size(), reason);
+        return linesByOrder.size();
+    }
+
+    @Transactional
+    public boolean commit(String orderId) {
+        return reservationStore.commitReserved(orderId) > 0;
+    }
+}
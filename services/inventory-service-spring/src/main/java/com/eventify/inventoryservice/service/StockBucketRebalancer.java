@@ -0,0 +1,102 @@
+package com.eventify.inventoryservice.service;
+
+import com.eventify.inventoryservice.domain.StockBucketStore;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.profiling.HotSkuEntry;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stripes configured SKUs, plus the ones the hot-SKU profiler sees waiting longest on row locks, and keeps their
+ * buckets level. Each SKU is rebalanced in its own short transaction and only when its buckets are skewed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock-buckets.enabled", havingValue = "true")
+public class StockBucketRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(StockBucketRebalancer.class);
+
+    private final StockBucketStore stockBucketStore;
+    private final StockLedger stockLedger;
+    private final HotSkuProfiler hotSkuProfiler;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.stock-buckets.bucket-count:8}")
+    private int bucketCount;
+
+    @Value("${app.stock-buckets.skus:}")
+    private List<String> configuredSkus;
+
+    @Value("${app.stock-buckets.auto-stripe-top:5}")
+    private int autoStripeTop;
+
+    @Value("${app.stock-buckets.auto-stripe-min-lock-wait-ms:500}")
+    private double autoStripeMinLockWaitMs;
+
+    public StockBucketRebalancer(StockBucketStore stockBucketStore,
+                                 StockLedger stockLedger,
+                                 HotSkuProfiler hotSkuProfiler,
+                                 PlatformTransactionManager transactionManager) {
+        this.stockBucketStore = stockBucketStore;
+        this.stockLedger = stockLedger;
+        this.hotSkuProfiler = hotSkuProfiler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        stockBucketStore.createTable();
+        stockLedger.refreshStripedSkus();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stock-buckets.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        Set<String> candidates = new LinkedHashSet<>();
+        configuredSkus.stream().filter(sku -> !sku.isBlank()).forEach(candidates::add);
+        if (autoStripeTop > 0) {
+            for (HotSkuEntry entry : hotSkuProfiler.report(autoStripeTop).byLockWaitMs()) {
+                if (entry.value() - entry.maxOverestimate() >= autoStripeMinLockWaitMs) {
+                    candidates.add(entry.sku());
+                }
+            }
+        }
+
+        for (String sku : candidates) {
+            if (!stockLedger.isStriped(sku)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    stockBucketStore.createBuckets(sku, bucketCount);
+                    stockBucketStore.rebalance(sku);
+                });
+                log.info("Striped sku={} buckets={}", sku, bucketCount);
+            }
+        }
+        stockLedger.refreshStripedSkus();
+
+        int rebalanced = 0;
+        for (String sku : stockLedger.stripedSkus()) {
+            try {
+                if (stockBucketStore.load(sku).isSkewed()) {
+                    transactionTemplate.executeWithoutResult(status -> stockBucketStore.rebalance(sku));
+                    rebalanced++;
+                }
+            } catch (Exception ex) {
+                log.warn("Bucket rebalance failed sku={}", sku, ex);
+            }
+        }
+
+        if (rebalanced > 0) {
+            log.info("Rebalanced stock buckets skus={}", rebalanced);
+        }
+    }
+}
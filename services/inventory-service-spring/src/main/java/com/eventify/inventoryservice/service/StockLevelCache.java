@@ -0,0 +1,80 @@
+package com.eventify.inventoryservice.service;
+
+import com.eventify.inventoryservice.domain.StockLevel;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded near cache of stock levels. Entries carry the row version, so out-of-order after-commit updates can
+ * never overwrite a newer level with an older one. The TTL bounds staleness for changes made by other instances.
+ */
+@Component
+public class StockLevelCache {
+
+    private final Map<String, Entry> entries;
+    private final long ttlMs;
+    private final Clock clock;
+
+    @Autowired
+    public StockLevelCache(@Value("${app.stock-cache.max-entries:100000}") int maxEntries,
+                           @Value("${app.stock-cache.ttl-ms:5000}") long ttlMs) {
+        this(maxEntries, ttlMs, Clock.systemUTC());
+    }
+
+    StockLevelCache(int maxEntries, long ttlMs, Clock clock) {
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockLevelsChanged(StockLevelsChangedEvent event) {
+        for (StockLevel level : event.levels()) {
+            put(level);
+        }
+    }
+
+    public synchronized StockLevel get(String sku) {
+        Entry entry = entries.get(sku);
+        if (entry == null) {
+            return null;
+        }
+
+        if (clock.millis() - entry.cachedAtMs > ttlMs) {
+            entries.remove(sku);
+            return null;
+        }
+
+        return entry.level;
+    }
+
+    public synchronized void put(StockLevel level) {
+        Entry existing = entries.get(level.sku());
+        if (existing != null && existing.level.version() > level.version()) {
+            return;
+        }
+
+        entries.put(level.sku(), new Entry(level, clock.millis()));
+    }
+
+    public synchronized void invalidate(String sku) {
+        entries.remove(sku);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(StockLevel level, long cachedAtMs) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.eventify.inventoryservice.service;
+
+import com.eventify.inventoryservice.domain.StockLevel;
+import java.util.List;
+
+public record StockLevelsChangedEvent(List<StockLevel> levels) {
+}
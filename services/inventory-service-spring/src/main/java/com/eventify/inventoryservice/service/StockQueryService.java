@@ -0,0 +1,61 @@
+package com.eventify.inventoryservice.service;
+
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StockQueryService {
+
+    private final StockLedger stockLedger;
+    private final StockLevelCache stockLevelCache;
+
+    public StockQueryService(StockLedger stockLedger, StockLevelCache stockLevelCache) {
+        this.stockLedger = stockLedger;
+        this.stockLevelCache = stockLevelCache;
+    }
+
+    public Optional<StockLevel> find(String sku) {
+        List<StockLevel> levels = findAll(List.of(sku));
+        return levels.isEmpty() ? Optional.empty() : Optional.of(levels.get(0));
+    }
+
+    /**
+     * Returns levels for the known SKUs, in request order. Misses are loaded with one plain (non-locking) select,
+     * which under MVCC never waits on reservation row locks.
+     */
+    public List<StockLevel> findAll(Collection<String> skus) {
+        Map<String, StockLevel> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String sku : skus) {
+            StockLevel cached = stockLevelCache.get(sku);
+            if (cached != null) {
+                found.put(sku, cached);
+            } else {
+                misses.add(sku);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (StockLevel level : stockLedger.levels(misses)) {
+                stockLevelCache.put(level);
+                found.put(level.sku(), level);
+            }
+        }
+
+        List<StockLevel> ordered = new ArrayList<>(found.size());
+        for (String sku : skus) {
+            StockLevel level = found.get(sku);
+            if (level != null) {
+                ordered.add(level);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventify.inventoryservice.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-hop latency histograms for sampled orders, from order intake to the inventory outcome. Hops that cross
+ * services compare wall clocks of different hosts, so skew shows up in them; negative spans are dropped.
+ */
+@Component
+public class HopLatencyRecorder {
+
+    private final Map<TraceHop, Timer> timers = new EnumMap<>(TraceHop.class);
+
+    public HopLatencyRecorder(MeterRegistry meterRegistry) {
+        for (TraceHop hop : TraceHop.values()) {
+            timers.put(hop, Timer.builder("eventify.trace.hop")
+                    .description("Latency of each hop of a sampled order, from intake to inventory outcome")
+                    .tag("hop", hop.name().toLowerCase().replace('_', '-'))
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(5))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordConsumed(TraceContext trace, long consumedAtMs) {
+        recordSpan(TraceHop.INTAKE, trace.intakeMs(), trace.outboxMs());
+        recordSpan(TraceHop.OUTBOX_QUEUE, trace.outboxMs(), trace.publishMs());
+        recordSpan(TraceHop.KAFKA_QUEUE, trace.publishMs(), consumedAtMs);
+    }
+
+    public void recordProcessing(long nanos) {
+        timers.get(TraceHop.PROCESSING).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOutcomePublished(long intakeMs, long outboxMs, long ackedAtMs) {
+        recordSpan(TraceHop.OUTCOME_PUBLISH, outboxMs, ackedAtMs);
+        recordSpan(TraceHop.END_TO_END, intakeMs, ackedAtMs);
+    }
+
+    private void recordSpan(TraceHop hop, long fromMs, long toMs) {
+        if (fromMs >= 0 && toMs >= fromMs) {
+            timers.get(hop).record(toMs - fromMs, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventify.inventoryservice.tracing;
+
+import org.apache.kafka.common.header.Headers;
+
+/** Hop timestamps (epoch millis) of a sampled order as it arrived; -1 marks a stamp the producer did not set. */
+public record TraceContext(long intakeMs, long outboxMs, long publishMs) {
+
+    /** Returns {@code null} for unsampled records, which carry no intake stamp. */
+    public static TraceContext from(Headers headers) {
+        long intakeMs = TraceHeaders.readMillis(headers, TraceHeaders.INTAKE_MS);
+        if (intakeMs < 0) {
+            return null;
+        }
+
+        return new TraceContext(
+                intakeMs,
+                TraceHeaders.readMillis(headers, TraceHeaders.OUTBOX_MS),
+                TraceHeaders.readMillis(headers, TraceHeaders.PUBLISH_MS)
+        );
+    }
+}
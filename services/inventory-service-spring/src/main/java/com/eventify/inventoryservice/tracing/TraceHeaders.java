@@ -0,0 +1,41 @@
+package com.eventify.inventoryservice.tracing;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Trace headers stamped by order-service's outbox relay and forwarded on inventory outcomes. Timestamps are epoch
+ * milliseconds in ASCII and are present only on sampled orders.
+ */
+public final class TraceHeaders {
+
+    public static final String CORRELATION_ID = "x-correlation-id";
+    public static final String INTAKE_MS = "x-trace-intake-ms";
+    public static final String OUTBOX_MS = "x-trace-outbox-ms";
+    public static final String PUBLISH_MS = "x-trace-publish-ms";
+
+    private TraceHeaders() {
+    }
+
+    /** Returns the header as epoch millis, or -1 when it is missing or not a plain non-negative number. */
+    public static long readMillis(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null || header.value().length == 0 || header.value().length > 19) {
+            return -1;
+        }
+
+        long value = 0;
+        for (byte digit : header.value()) {
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    public static void putMillis(Headers headers, String name, long epochMillis) {
+        headers.add(name, Long.toString(epochMillis).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,16 @@
+package com.eventify.inventoryservice.tracing;
+
+public enum TraceHop {
+    /** order-service: request accepted to outbox row written. */
+    INTAKE,
+    /** order-service: outbox row written to relay publish. */
+    OUTBOX_QUEUE,
+    /** Relay publish to the inventory listener picking the record up. */
+    KAFKA_QUEUE,
+    /** Inventory listener: reservation transaction, including retries. */
+    PROCESSING,
+    /** Inventory outcome outbox row written to acknowledged by Kafka. */
+    OUTCOME_PUBLISH,
+    /** Order intake to the inventory outcome acknowledged by Kafka. */
+    END_TO_END
+}
@@ -0,0 +1,40 @@
+package com.eventify.inventoryservice.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.eventify.inventoryservice.backpressure.AimdConcurrencyLimit.LoadSample;
+import com.eventify.inventoryservice.backpressure.AimdConcurrencyLimit.Thresholds;
+import org.junit.jupiter.api.Test;
+
+class AimdConcurrencyLimitTest {
+
+    private static final Thresholds THRESHOLDS = new Thresholds(20, 250, 1000, 10);
+    private static final LoadSample HEALTHY = new LoadSample(0, 2, 40, 0);
+
+    @Test
+    void backsOffMultiplicativelyAndRecoversOneStepAtATime() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(1, 8, 0.5);
+
+        assertThat(limit.update(new LoadSample(3, 35, 120, 0), THRESHOLDS)).isEqualTo(4);
+        assertThat(limit.update(new LoadSample(0, 5, 400, 0), THRESHOLDS)).isEqualTo(2);
+        assertThat(limit.update(new LoadSample(0, 5, 100, 2), THRESHOLDS)).isEqualTo(1);
+        assertThat(limit.update(new LoadSample(1, 50, 300, 0), THRESHOLDS)).isEqualTo(1);
+
+        assertThat(limit.update(HEALTHY, THRESHOLDS)).isEqualTo(2);
+        assertThat(limit.update(HEALTHY, THRESHOLDS)).isEqualTo(3);
+    }
+
+    @Test
+    void shedsEverythingWhenOverloadedAndNeverExceedsMax() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(1, 3, 0.5);
+
+        assertThat(limit.update(HEALTHY, THRESHOLDS)).isEqualTo(3);
+        assertThat(limit.update(new LoadSample(12, 400, 0, 0), THRESHOLDS)).isZero();
+        assertThat(limit.update(new LoadSample(0, 1500, 0, 0), THRESHOLDS)).isZero();
+
+        for (int i = 0; i < 5; i++) {
+            limit.update(HEALTHY, THRESHOLDS);
+        }
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventify.inventoryservice.benchmark;
+
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.profiling.ReservationStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-reservation cost of the profiling hooks (one lock-wait sample, one reserved sample, four stage timers)
+ * under a Zipf-skewed SKU stream over 100k SKUs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotSkuProfilerBenchmark {
+
+    private static final int KEYS = 1 << 16;
+
+    private HotSkuProfiler profiler;
+    private String[] skus;
+
+    @Setup
+    public void setUp() {
+        profiler = new HotSkuProfiler(new SimpleMeterRegistry(), 256);
+        skus = new String[KEYS];
+        ZipfSampler zipf = new ZipfSampler(100_000, 1.1, new Random(42));
+        for (int i = 0; i < KEYS; i++) {
+            skus[i] = "SKU-" + zipf.next();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordReservation(ThreadCursor cursor) {
+        String sku = skus[cursor.next() & (KEYS - 1)];
+        profiler.recordStage(ReservationStage.DEDUPE, 1_000);
+        profiler.recordLockWait(sku, 50_000);
+        profiler.recordStage(ReservationStage.LOCK, 50_000);
+        profiler.recordReserved(sku, 1);
+        profiler.recordStage(ReservationStage.DECREMENT, 20_000);
+        profiler.recordStage(ReservationStage.PUBLISH, 10_000);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+
+        private int position = new Random().nextInt();
+
+        int next() {
+            return position++;
+        }
+    }
+}
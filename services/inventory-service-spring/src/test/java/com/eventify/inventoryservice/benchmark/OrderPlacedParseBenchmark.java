@@ -0,0 +1,124 @@
+package com.eventify.inventoryservice.benchmark;
+
+import com.eventify.inventoryservice.messaging.InvalidEventException;
+import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.messaging.OrderPlacedEventParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the previous String bind + list-collecting validation (and the readTree re-parse on the DLQ path)
+ * against the single-pass byte[] parser. Run with {@code -prof gc} to see allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPlacedParseBenchmark {
+
+    @Param({"1", "10"})
+    public int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OrderPlacedEventParser parser = new OrderPlacedEventParser(objectMapper);
+
+    private byte[] validBytes;
+    private byte[] invalidBytes;
+
+    @Setup
+    public void setUp() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                lines.append(',');
+            }
+            lines.append("{\"sku\":\"SKU-").append(i).append("\",\"quantity\":").append(i + 1).append('}');
+        }
+
+        String valid = """
+                {"eventId":"%s","eventType":"OrderPlaced","occurredAt":"2026-01-01T10:00:00Z",\
+                "correlationId":"%s","producer":"order-service","version":1,\
+                "payload":{"orderId":"%s","items":[%s]}}""".formatted(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), lines);
+        validBytes = valid.getBytes(StandardCharsets.UTF_8);
+        invalidBytes = valid.replace("\"OrderPlaced\"", "\"OrderShipped\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent legacyValid() throws Exception {
+        OrderPlacedEvent event = objectMapper.readValue(new String(validBytes, StandardCharsets.UTF_8), OrderPlacedEvent.class);
+        legacyValidate(event);
+        return event;
+    }
+
+    @Benchmark
+    public OrderPlacedEvent streamingValid() {
+        return parser.parse(validBytes);
+    }
+
+    @Benchmark
+    public Object legacyInvalid() throws Exception {
+        String raw = new String(invalidBytes, StandardCharsets.UTF_8);
+        try {
+            legacyValidate(objectMapper.readValue(raw, OrderPlacedEvent.class));
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return objectMapper.readTree(raw);
+        }
+    }
+
+    @Benchmark
+    public Object streamingInvalid() {
+        try {
+            return parser.parse(invalidBytes);
+        } catch (InvalidEventException ex) {
+            return ex;
+        }
+    }
+
+    private static void legacyValidate(OrderPlacedEvent event) {
+        List<String> errors = new ArrayList<>();
+        if (event.eventId() == null || event.eventId().isBlank()) {
+            errors.add("eventId is required");
+        }
+        if (event.correlationId() == null || event.correlationId().isBlank()) {
+            errors.add("correlationId is required");
+        }
+        if (!"OrderPlaced".equals(event.eventType())) {
+            errors.add("eventType must be OrderPlaced");
+        }
+        try {
+            OffsetDateTime.parse(event.occurredAt());
+        } catch (DateTimeParseException ex) {
+            errors.add("occurredAt must be an ISO-8601 timestamp");
+        }
+        if (event.payload() == null || event.payload().orderId() == null || event.payload().items() == null) {
+            errors.add("payload is required");
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.get(0));
+        }
+
+        UUID.fromString(event.eventId());
+        UUID.fromString(event.correlationId());
+    }
+}
@@ -0,0 +1,256 @@
+package com.eventify.inventoryservice.benchmark;
+
+import com.eventify.inventoryservice.InventoryServiceApplication;
+import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.service.InventoryReservationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs the real {@link InventoryReservationService} (Spring context, transactions, dedupe, ledger, reservation
+ * store, outbox) against Postgres with many threads placing orders concurrently. Each operation places one order
+ * and retries it like the listener does, without the backoff sleep. Vary the thread count with {@code -t}.
+ *
+ * <p>JMH reports orders/sec plus per-iteration counts of lock failures (deadlock victims and lock timeouts),
+ * retries and orders that failed every attempt. After every iteration the benchmark prints p50/p99/p99.9 order
+ * latency, the outcome split (reserved vs out of stock), average time spent in the LOCK stage, and the deadlocks
+ * Postgres itself counted.
+ *
+ * <p>Needs a Postgres reachable at {@code -Dbench.jdbc-url} (default: the local compose database). Everything is
+ * created in a throwaway {@code inventory_bench} schema, and Kafka is never contacted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(16)
+public class ReservationContentionBenchmark {
+
+    private static final int SKUS = 10_000;
+    private static final int SAMPLES = 1 << 16;
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** {@code uniform} or {@code zipf-<exponent>}. */
+    @Param({"uniform", "zipf-0.8", "zipf-1.2"})
+    public String skew;
+
+    @Param({"1", "4", "8"})
+    public int itemsPerOrder;
+
+    /** Starting stock per SKU each iteration; a small value drives hot SKUs into the out-of-stock path. */
+    @Param({"100000000", "50"})
+    public int stockPerSku;
+
+    private ConfigurableApplicationContext context;
+    private InventoryReservationService reservationService;
+    private JdbcTemplate jdbcTemplate;
+    private MeterRegistry meterRegistry;
+    private Timer latency;
+    private String[] skus;
+    private long deadlocksBefore;
+    private long lockStageCountBefore;
+    private double lockStageNanosBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String jdbcUrl = System.getProperty("bench.jdbc-url",
+                "jdbc:postgresql://localhost:5432/eventify?currentSchema=inventory_bench");
+        String user = System.getProperty("bench.user", "app");
+        String password = System.getProperty("bench.password", "app");
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            connection.createStatement().execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+            connection.createStatement().execute("CREATE SCHEMA inventory_bench");
+        }
+
+        context = new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.ofEntries(
+                        Map.entry("spring.datasource.url", jdbcUrl),
+                        Map.entry("spring.datasource.username", user),
+                        Map.entry("spring.datasource.password", password),
+                        Map.entry("spring.datasource.hikari.maximum-pool-size", 64),
+                        Map.entry("spring.kafka.listener.auto-startup", false),
+                        Map.entry("spring.kafka.admin.auto-create", false),
+                        Map.entry("spring.main.banner-mode", "off"),
+                        Map.entry("logging.level.root", "WARN"),
+                        Map.entry("app.outbox.poll-interval-ms", 3_600_000),
+                        Map.entry("app.stock-changelog.enabled", false),
+                        Map.entry("app.backpressure.enabled", false),
+                        Map.entry("app.reservations.ttl-ms", 86_400_000),
+                        Map.entry("app.reservations.expiry.tick-ms", 3_600_000)
+                ))
+                .run();
+        reservationService = context.getBean(InventoryReservationService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        jdbcTemplate.update("INSERT INTO inventory_items (sku, available_qty, version) "
+                + "SELECT 'BENCH-' || i, 0, 0 FROM generate_series(0, ? - 1) i", SKUS);
+
+        Random random = new Random(7);
+        skus = new String[SAMPLES];
+        if (skew.startsWith("zipf-")) {
+            ZipfSampler zipf = new ZipfSampler(SKUS, Double.parseDouble(skew.substring("zipf-".length())), random);
+            for (int i = 0; i < SAMPLES; i++) {
+                skus[i] = "BENCH-" + zipf.next();
+            }
+        } else {
+            for (int i = 0; i < SAMPLES; i++) {
+                skus[i] = "BENCH-" + random.nextInt(SKUS);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        jdbcTemplate.execute("TRUNCATE inventory_reservations, inventory_outbox, inventory_processed_events");
+        jdbcTemplate.update("UPDATE inventory_items SET available_qty = ?, version = 0 WHERE sku LIKE 'BENCH-%'",
+                stockPerSku);
+        jdbcTemplate.execute("VACUUM ANALYZE inventory_items");
+
+        latency = Timer.builder("bench.order")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        deadlocksBefore = pgDeadlocks();
+        Timer lockStage = lockStageTimer();
+        lockStageCountBefore = lockStage == null ? 0 : lockStage.count();
+        lockStageNanosBefore = lockStage == null ? 0 : lockStage.totalTime(TimeUnit.NANOSECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        Map<String, Object> outcomes = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) FILTER (WHERE event_type = 'InventoryReserved') AS reserved, "
+                        + "COUNT(*) FILTER (WHERE event_type = 'OutOfStock') AS out_of_stock FROM inventory_outbox");
+        Timer lockStage = lockStageTimer();
+        long lockCount = lockStage == null ? 0 : lockStage.count() - lockStageCountBefore;
+        double lockNanos = lockStage == null ? 0 : lockStage.totalTime(TimeUnit.NANOSECONDS) - lockStageNanosBefore;
+
+        StringBuilder percentiles = new StringBuilder();
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            percentiles.append(String.format(" p%s=%.2fms", trim(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS)));
+        }
+        System.out.printf("%n[%s items=%d stock=%d] orders=%d reserved=%s outOfStock=%s%s lockStage=%.2fms/order pgDeadlocks=%d%n",
+                skew, itemsPerOrder, stockPerSku, latency.count(), outcomes.get("reserved"), outcomes.get("out_of_stock"),
+                percentiles, lockCount == 0 ? 0.0 : lockNanos / 1_000_000.0 / lockCount, pgDeadlocks() - deadlocksBefore);
+    }
+
+    @Benchmark
+    public void placeOrder(ThreadCursor cursor, Outcomes outcomes) {
+        List<OrderPlacedEvent.Item> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(new OrderPlacedEvent.Item(skus[cursor.next() & (SAMPLES - 1)], 1));
+        }
+        OrderPlacedEvent event = new OrderPlacedEvent(
+                UUID.randomUUID().toString(),
+                "OrderPlaced",
+                OffsetDateTime.now().toString(),
+                UUID.randomUUID().toString(),
+                "bench",
+                1,
+                new OrderPlacedEvent.Payload(UUID.randomUUID().toString(), items)
+        );
+
+        long startedAt = System.nanoTime();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                reservationService.processOrderPlaced(event);
+                break;
+            } catch (Exception ex) {
+                if (ex instanceof PessimisticLockingFailureException) {
+                    outcomes.lockFailures++;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    outcomes.failed++;
+                } else {
+                    outcomes.retries++;
+                }
+            }
+        }
+        latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private long pgDeadlocks() {
+        Long deadlocks = jdbcTemplate.queryForObject(
+                "SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()", Long.class);
+        return deadlocks == null ? 0 : deadlocks;
+    }
+
+    private Timer lockStageTimer() {
+        return meterRegistry.find("inventory.reservation.stage").tag("stage", "lock").timer();
+    }
+
+    private static String trim(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+
+        private int position = new Random().nextInt();
+
+        int next() {
+            return position++;
+        }
+    }
+
+    /** Per-iteration totals reported by JMH next to the throughput score. */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+
+        public long lockFailures;
+        public long retries;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lockFailures = 0;
+            retries = 0;
+            failed = 0;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.eventify.inventoryservice.benchmark;
+
+import com.eventify.inventoryservice.domain.LineReservationStore;
+import com.eventify.inventoryservice.domain.OrderReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore.ReservationLine;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Insert throughput of the per-line reservation layout against the packed per-order one, for orders of
+ * {@code linesPerOrder} lines. At the end of each trial the table and index sizes are printed, which is where the
+ * write amplification shows. Needs a Postgres reachable at {@code -Dbench.jdbc-url} (default: the local compose
+ * database); everything is created in a throwaway {@code inventory_bench} schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class ReservationLayoutBenchmark {
+
+    private static final int SKUS = 10_000;
+
+    @Param({"per-line", "per-order"})
+    public String layout;
+
+    @Param({"1", "4", "12"})
+    public int linesPerOrder;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ReservationStore store;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.jdbc-url",
+                "jdbc:postgresql://localhost:5432/eventify?currentSchema=inventory_bench"));
+        config.setUsername(System.getProperty("bench.user", "app"));
+        config.setPassword(System.getProperty("bench.password", "app"));
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA inventory_bench");
+
+        if ("per-order".equals(layout)) {
+            OrderReservationStore orderStore = new OrderReservationStore(jdbcTemplate, transactionManager);
+            orderStore.createSchema();
+            store = orderStore;
+            table = "inventory_order_reservations";
+        } else {
+            // Mirrors the schema Hibernate derives from InventoryReservationEntity.
+            jdbcTemplate.execute("CREATE TABLE inventory_reservations (reservation_id VARCHAR(255) PRIMARY KEY, "
+                    + "order_id VARCHAR(255) NOT NULL, sku VARCHAR(255) NOT NULL, qty INTEGER NOT NULL, "
+                    + "status VARCHAR(16) NOT NULL, created_at TIMESTAMPTZ NOT NULL, released_at TIMESTAMPTZ)");
+            jdbcTemplate.execute("CREATE INDEX idx_inventory_reservations_status_created "
+                    + "ON inventory_reservations (status, created_at)");
+            jdbcTemplate.execute("CREATE INDEX idx_inventory_reservations_order ON inventory_reservations (order_id)");
+            jdbcTemplate.execute("CREATE INDEX idx_inventory_reservations_sku_status "
+                    + "ON inventory_reservations (sku, status)");
+            store = new LineReservationStore(jdbcTemplate);
+            table = "inventory_reservations";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Long orders = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT order_id) FROM " + table, Long.class);
+        Long heapBytes = jdbcTemplate.queryForObject("SELECT pg_table_size(?)", Long.class, table);
+        Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_indexes_size(?)", Long.class, table);
+        System.out.printf("%n%s lines=%d: orders=%d heap=%d B indexes=%d B (%.1f B/order)%n",
+                layout, linesPerOrder, orders, heapBytes, indexBytes,
+                orders == 0 ? 0.0 : (double) (heapBytes + indexBytes) / orders);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void reserveOrder(OrderLines order) {
+        String orderId = UUID.randomUUID().toString();
+        List<ReservationLine> lines = order.next(linesPerOrder);
+        transactionTemplate.executeWithoutResult(status -> store.insert(orderId, lines, OffsetDateTime.now()));
+    }
+
+    @State(Scope.Thread)
+    public static class OrderLines {
+
+        private final Random random = new Random();
+
+        List<ReservationLine> next(int count) {
+            List<ReservationLine> lines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                lines.add(new ReservationLine("SKU-" + random.nextInt(SKUS), 1 + random.nextInt(3)));
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.eventify.inventoryservice.benchmark;
+
+import com.eventify.inventoryservice.domain.StockBucketStore;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockTake;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reservation throughput of the single-row layout against striped buckets under Zipf-skewed SKU demand. Each
+ * operation is one transaction that takes one unit and makes one more round trip while holding the lock, like
+ * the reservation insert does. Needs a Postgres reachable at {@code -Dbench.jdbc-url} (default: the local
+ * compose database); everything is created in a throwaway {@code inventory_bench} schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class StockLedgerBenchmark {
+
+    private static final int SKUS = 10_000;
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"single-row", "striped"})
+    public String layout;
+
+    @Param({"1.1"})
+    public double zipfExponent;
+
+    @Param({"16"})
+    public int stripedHotSkus;
+
+    @Param({"8"})
+    public int bucketCount;
+
+    private HikariDataSource dataSource;
+    private StockLedger ledger;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private String[] skus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.jdbc-url",
+                "jdbc:postgresql://localhost:5432/eventify?currentSchema=inventory_bench"));
+        config.setUsername(System.getProperty("bench.user", "app"));
+        config.setPassword(System.getProperty("bench.password", "app"));
+        config.setMaximumPoolSize(32);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA inventory_bench");
+        jdbcTemplate.execute("CREATE TABLE inventory_items (sku VARCHAR(255) PRIMARY KEY, "
+                + "available_qty INTEGER NOT NULL, version BIGINT NOT NULL DEFAULT 0)");
+        jdbcTemplate.update("INSERT INTO inventory_items (sku, available_qty) "
+                + "SELECT 'SKU-' || i, 100000000 FROM generate_series(0, ? - 1) i", SKUS);
+
+        StockBucketStore bucketStore = new StockBucketStore(jdbcTemplate);
+        bucketStore.createTable();
+        boolean striped = "striped".equals(layout);
+        if (striped) {
+            for (int rank = 0; rank < stripedHotSkus; rank++) {
+                String sku = "SKU-" + rank;
+                transactionTemplate.executeWithoutResult(status -> {
+                    bucketStore.createBuckets(sku, bucketCount);
+                    bucketStore.rebalance(sku);
+                });
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        ledger = new StockLedger(jdbcTemplate, bucketStore, striped);
+        ledger.refreshStripedSkus();
+
+        ZipfSampler zipf = new ZipfSampler(SKUS, zipfExponent, new Random(7));
+        skus = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            skus[i] = "SKU-" + zipf.next();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS inventory_bench CASCADE");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public StockTake reserveOne(ThreadCursor cursor) {
+        String sku = skus[cursor.next() & (SAMPLES - 1)];
+        return transactionTemplate.execute(status -> {
+            StockTake take = ledger.take(sku, 1);
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return take;
+        });
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+
+        private int position = new Random().nextInt();
+
+        int next() {
+            return position++;
+        }
+    }
+}
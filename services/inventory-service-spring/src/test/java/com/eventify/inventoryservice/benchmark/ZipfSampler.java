@@ -0,0 +1,30 @@
+package com.eventify.inventoryservice.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** Draws ranks 0..n-1 with probability proportional to 1 / (rank + 1)^s via an inverse-CDF lookup. */
+final class ZipfSampler {
+
+    private final double[] cdf;
+    private final Random random;
+
+    ZipfSampler(int n, double exponent, Random random) {
+        this.cdf = new double[n];
+        this.random = random;
+
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return index >= 0 ? index : Math.min(cdf.length - 1, -index - 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.eventify.inventoryservice.changelog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.changelog.StockChangelogStore.Mark;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import com.eventify.inventoryservice.messaging.InventoryEventFactory;
+import com.eventify.inventoryservice.service.StockLevelsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StockChangelogPublisherTest {
+
+    @Mock
+    private KafkaOperations<String, String> kafkaOperations;
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private StockChangelogStore stockChangelogStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockChangelogPublisher publisher() {
+        return new StockChangelogPublisher(
+                kafkaOperations,
+                new InventoryEventFactory(new ObjectMapper()),
+                stockLedger,
+                stockChangelogStore,
+                transactionManager
+        );
+    }
+
+    @Test
+    void marksEachChangedSkuOnce() {
+        publisher().onStockLevelsChanged(new StockLevelsChangedEvent(List.of(
+                new StockLevel("SKU-1", 9, 1), new StockLevel("SKU-2", 4, 1), new StockLevel("SKU-1", 8, 2))));
+
+        verify(stockChangelogStore).mark(Set.of("SKU-1", "SKU-2"));
+    }
+
+    @Test
+    void publishesTheCurrentLevelOncePerMarkedSkuAndClearsItsMarks() {
+        when(stockChangelogStore.lockWriter(false)).thenReturn(true);
+        when(stockChangelogStore.oldest(anyInt())).thenReturn(List.of(
+                new Mark(1, "SKU-1"), new Mark(2, "SKU-1"), new Mark(3, "SKU-1")));
+        when(stockLedger.levels(Set.of("SKU-1"))).thenReturn(List.of(new StockLevel("SKU-1", 7, 3)));
+        when(kafkaOperations.send(eq("inventory.stock"), eq("SKU-1"), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher().flush();
+
+        verify(kafkaOperations, times(1)).send(eq("inventory.stock"), eq("SKU-1"), anyString());
+        verify(kafkaOperations).send(eq("inventory.stock"), eq("SKU-1"), contains("\"version\":3"));
+        verify(stockChangelogStore).delete(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void leavesPublishingToTheInstanceHoldingTheWriterLock() {
+        when(stockChangelogStore.lockWriter(false)).thenReturn(false);
+
+        publisher().flush();
+
+        verify(stockChangelogStore, never()).oldest(anyInt());
+        verify(kafkaOperations, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void keepsTheMarksOfAFailedSendForTheNextFlush() {
+        when(stockChangelogStore.lockWriter(false)).thenReturn(true);
+        when(stockChangelogStore.oldest(anyInt())).thenReturn(List.of(new Mark(1, "SKU-1"), new Mark(2, "SKU-2")));
+        when(stockLedger.levels(any())).thenReturn(List.of(new StockLevel("SKU-1", 7, 3), new StockLevel("SKU-2", 5, 1)));
+        when(kafkaOperations.send(eq("inventory.stock"), eq("SKU-1"), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaOperations.send(eq("inventory.stock"), eq("SKU-2"), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher().flush();
+
+        verify(stockChangelogStore).delete(List.of(2L));
+    }
+}
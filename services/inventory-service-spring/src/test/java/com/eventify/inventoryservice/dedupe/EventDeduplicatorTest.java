@@ -0,0 +1,118 @@
+package com.eventify.inventoryservice.dedupe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.domain.ProcessedEventPartitionMaintainer;
+import com.eventify.inventoryservice.domain.ProcessedEventStore;
+import com.eventify.inventoryservice.messaging.InvalidEventException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class EventDeduplicatorTest {
+
+    private static final String EVENT_ID = "44444444-4444-4444-4444-444444444444";
+    private static final String OCCURRED_AT = "2026-01-01T23:30:00-02:00";
+    private static final LocalDate OCCURRED_ON = LocalDate.of(2026, 1, 2);
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private ProcessedEventPartitionMaintainer partitionMaintainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventDeduplicator eventDeduplicator;
+
+    @BeforeEach
+    void setUp() {
+        eventDeduplicator = new EventDeduplicator(processedEventStore, partitionMaintainer, meterRegistry, 16, 1000, 0.01);
+        lenient().when(partitionMaintainer.partitionDayFor(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shortCircuitsCommittedDuplicatesWithoutHittingTheStore() {
+        when(processedEventStore.insertIfAbsent(EVENT_ID, OCCURRED_ON)).thenReturn(true);
+
+        assertThat(eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT)).isTrue();
+        assertThat(eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT)).isFalse();
+
+        verify(processedEventStore, times(1)).insertIfAbsent(EVENT_ID, OCCURRED_ON);
+        assertThat(meterRegistry.counter("inventory.dedupe.lookups", "tier", "memory").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("inventory.dedupe.lookups", "tier", "store").count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRememberEventsFromRolledBackTransactions() {
+        when(processedEventStore.insertIfAbsent(eq(EVENT_ID), any())).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT)).isTrue();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT)).isTrue();
+        verify(processedEventStore, times(2)).insertIfAbsent(EVENT_ID, OCCURRED_ON);
+    }
+
+    @Test
+    void rejectsEventsDatedBeyondThePremakeWindowWithoutTouchingTheStore() {
+        when(partitionMaintainer.isBeyondPremakeWindow(OCCURRED_ON)).thenReturn(true);
+
+        assertThatThrownBy(() -> eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessageContaining("in the future");
+        verify(processedEventStore, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    void rejectsEventsOlderThanTheRetentionWindowWithoutTouchingTheStore() {
+        when(partitionMaintainer.isBeyondRetentionWindow(OCCURRED_ON)).thenReturn(true);
+        when(partitionMaintainer.retentionDays()).thenReturn(7);
+
+        assertThatThrownBy(() -> eventDeduplicator.markProcessed(EVENT_ID, OCCURRED_AT))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessageContaining("7 days old");
+        verify(processedEventStore, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    void fallsBackToStoreForUnknownEventIds() {
+        when(processedEventStore.exists("unknown")).thenReturn(true);
+
+        assertThat(eventDeduplicator.isProcessed("unknown")).isTrue();
+        verify(processedEventStore, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        RotatingBloomFilter bloomFilter = new RotatingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("event-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("event-" + i)).isTrue();
+        }
+    }
+}
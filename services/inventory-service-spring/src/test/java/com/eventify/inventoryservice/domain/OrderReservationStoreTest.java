@@ -0,0 +1,82 @@
+package com.eventify.inventoryservice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.domain.ReservationStore.ReservationLine;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReservationStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void packSortsBySkuAndMergesRepeatedLines() {
+        Map<String, Integer> packed = OrderReservationStore.pack(List.of(
+                new ReservationLine("SKU-B", 2),
+                new ReservationLine("SKU-A", 1),
+                new ReservationLine("SKU-B", 3)
+        ));
+
+        assertThat(packed.keySet()).containsExactly("SKU-A", "SKU-B");
+        assertThat(packed.values()).containsExactly(1, 5);
+    }
+
+    @Test
+    void insertMergesLinesIntoAnOpenReservation() throws Exception {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1);
+        OrderReservationStore store = new OrderReservationStore(jdbcTemplate, null);
+
+        store.insert("order-1", List.of(new ReservationLine("SKU-B", 2), new ReservationLine("SKU-A", 1)),
+                OffsetDateTime.now());
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).update(creator.capture());
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+
+        creator.getValue().createPreparedStatement(connection);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue())
+                .contains("created_at = GREATEST(r.created_at, EXCLUDED.created_at)")
+                .contains("unnest(r.skus || EXCLUDED.skus, r.qtys || EXCLUDED.qtys)")
+                .contains("GROUP BY l.sku")
+                .contains("WHERE r.status = 'RESERVED'");
+        verify(connection).createArrayOf("text", new Object[] {"SKU-A", "SKU-B"});
+        verify(connection).createArrayOf("integer", new Object[] {1, 2});
+        verify(statement).setString(1, "order-1");
+    }
+
+    @Test
+    void insertRefusesToReopenAClosedReservation() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(0);
+        OrderReservationStore store = new OrderReservationStore(jdbcTemplate, null);
+
+        assertThatThrownBy(() -> store.insert("order-1", List.of(new ReservationLine("SKU-A", 1)), OffsetDateTime.now()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("order-1");
+    }
+}
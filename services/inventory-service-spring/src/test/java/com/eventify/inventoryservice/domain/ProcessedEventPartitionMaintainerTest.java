@@ -0,0 +1,67 @@
+package com.eventify.inventoryservice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventPartitionMaintainerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void keysAnEventOnTheSameDayWhicheverDayItIsRedeliveredOn() {
+        LocalDate occurredOn = DAY.plusDays(2);
+
+        assertThat(maintainerOn(DAY).partitionDayFor(occurredOn)).isEqualTo(occurredOn);
+        assertThat(maintainerOn(DAY.plusDays(1)).partitionDayFor(occurredOn)).isEqualTo(occurredOn);
+    }
+
+    @Test
+    void rejectsEventsBeyondThePremakeWindowOnEveryDelivery() {
+        LocalDate occurredOn = DAY.plusDays(3);
+        ProcessedEventPartitionMaintainer firstDelivery = maintainerOn(DAY);
+
+        assertThat(firstDelivery.isBeyondPremakeWindow(occurredOn)).isTrue();
+        assertThatThrownBy(() -> firstDelivery.partitionDayFor(occurredOn)).isInstanceOf(IllegalArgumentException.class);
+
+        // Once the window reaches the event's day it is keyed on that day, never on an earlier clamp.
+        ProcessedEventPartitionMaintainer redelivery = maintainerOn(DAY.plusDays(1));
+        assertThat(redelivery.isBeyondPremakeWindow(occurredOn)).isFalse();
+        assertThat(redelivery.partitionDayFor(occurredOn)).isEqualTo(occurredOn);
+    }
+
+    @Test
+    void rejectsEventsOlderThanRetentionInsteadOfReKeyingThem() {
+        LocalDate occurredOn = DAY.minusDays(7);
+        ProcessedEventPartitionMaintainer firstDelivery = maintainerOn(DAY);
+
+        assertThat(firstDelivery.isBeyondRetentionWindow(occurredOn)).isFalse();
+        assertThat(firstDelivery.partitionDayFor(occurredOn)).isEqualTo(occurredOn);
+
+        // A day later the event's partition is past retention; it must not be keyed on the new oldest day.
+        ProcessedEventPartitionMaintainer redelivery = maintainerOn(DAY.plusDays(1));
+        assertThat(redelivery.isBeyondRetentionWindow(occurredOn)).isTrue();
+        assertThatThrownBy(() -> redelivery.partitionDayFor(occurredOn)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProcessedEventPartitionMaintainer maintainerOn(LocalDate day) {
+        Clock clock = Clock.fixed(Instant.from(day.atTime(12, 0).atOffset(ZoneOffset.UTC)), ZoneOffset.UTC);
+        return new ProcessedEventPartitionMaintainer(processedEventStore, transactionManager, 7, 2, clock);
+    }
+}
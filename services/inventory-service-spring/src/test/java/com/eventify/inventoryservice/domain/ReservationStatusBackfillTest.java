@@ -0,0 +1,37 @@
+package com.eventify.inventoryservice.domain;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationStatusBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void marksLegacyRowsCommittedInBatchesBeforeRequiringAStatus() {
+        when(jdbcTemplate.update(contains("SET status = 'COMMITTED'"), eq(2))).thenReturn(2, 2, 1);
+        ReservationStatusBackfill backfill = new ReservationStatusBackfill(jdbcTemplate, 2);
+
+        backfill.run();
+        backfill.run();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate, times(3)).update(contains("WHERE status IS NULL"), eq(2));
+        order.verify(jdbcTemplate).execute(contains("SET NOT NULL"));
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+}
@@ -0,0 +1,72 @@
+package com.eventify.inventoryservice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StockBucketStore stockBucketStore;
+
+    @Test
+    void fallsBackToBucketsWhenSkuWasStripedElsewhere() {
+        StockLedger ledger = new StockLedger(jdbcTemplate, stockBucketStore, true);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+        when(stockBucketStore.hasBuckets("SKU-1")).thenReturn(true);
+        when(stockBucketStore.takeFromAnyBucket("SKU-1", 5)).thenReturn(-1);
+        when(stockBucketStore.takeAcrossBuckets("SKU-1", 5)).thenReturn(List.of(
+                new StockTake.Share(StockTake.ITEM_ROW, 2),
+                new StockTake.Share(3, 3)
+        ));
+
+        StockTake take = ledger.take("SKU-1", 5);
+
+        assertThat(ledger.isStriped("SKU-1")).isTrue();
+        assertThat(take.level()).isNull();
+        assertThat(take.shares()).extracting(StockTake.Share::quantity).containsExactly(2, 3);
+    }
+
+    @Test
+    void giveBackReturnsEachShareToItsRow() {
+        StockLedger ledger = new StockLedger(jdbcTemplate, stockBucketStore, true);
+
+        ledger.giveBack(new StockTake("SKU-1", 5, List.of(
+                new StockTake.Share(StockTake.ITEM_ROW, 2),
+                new StockTake.Share(3, 3)
+        ), null));
+
+        verify(stockBucketStore).adjustItemRow("SKU-1", 2);
+        verify(stockBucketStore).adjust("SKU-1", 3, 3);
+    }
+
+    @Test
+    void reportsOutOfStockWithoutBucketsWhenDisabled() {
+        StockLedger ledger = new StockLedger(jdbcTemplate, stockBucketStore, false);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+
+        assertThat(ledger.take("SKU-1", 5)).isNull();
+    }
+
+    @Test
+    void bucketLoadIsSkewedWhenStockSitsOnItemRowOrOneBucketRunsDry() {
+        assertThat(new StockBucketStore.BucketLoad(0, List.of(10, 10, 9, 10)).isSkewed()).isFalse();
+        assertThat(new StockBucketStore.BucketLoad(4, List.of(10, 10, 10, 10)).isSkewed()).isTrue();
+        assertThat(new StockBucketStore.BucketLoad(0, List.of(0, 12, 14, 13)).isSkewed()).isTrue();
+        assertThat(new StockBucketStore.BucketLoad(0, List.of(0, 1, 1, 1)).isSkewed()).isFalse();
+    }
+}
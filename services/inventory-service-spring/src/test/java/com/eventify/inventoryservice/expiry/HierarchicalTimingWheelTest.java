@@ -0,0 +1,53 @@
+package com.eventify.inventoryservice.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void expiresEntriesAtTheirDeadlineAcrossLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 1_000);
+        Map<String, Long> deadlines = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1_010 + random.nextInt(50_000);
+            deadlines.put("order-" + i, deadline);
+            assertThat(wheel.schedule("order-" + i, deadline)).isTrue();
+        }
+
+        Map<String, Long> expiredAt = new HashMap<>();
+        for (long now = 1_000; now <= 52_000; now += 7) {
+            long tickNow = now;
+            wheel.advanceTo(now, orderId -> expiredAt.put(orderId, tickNow));
+        }
+
+        assertThat(expiredAt).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+        deadlines.forEach((orderId, deadline) -> {
+            assertThat(expiredAt.get(orderId)).isGreaterThanOrEqualTo(deadline);
+            assertThat(expiredAt.get(orderId)).isLessThan(deadline + 10 + 7);
+        });
+    }
+
+    @Test
+    void rejectsDeadlinesThatAreAlreadyDue() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, 10_000);
+
+        assertThat(wheel.schedule("late", 9_000)).isFalse();
+        assertThat(wheel.schedule("now", 10_000)).isFalse();
+        assertThat(wheel.schedule("next", 10_001)).isTrue();
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(10_999, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advanceTo(11_000, expired::add);
+        assertThat(expired).containsExactly("next");
+    }
+}
@@ -0,0 +1,67 @@
+package com.eventify.inventoryservice.expiry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.domain.ReservationStatusBackfill;
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.service.ReservationReleaseService;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirySchedulerTest {
+
+    @Mock
+    private ReservationStore reservationStore;
+
+    @Mock
+    private ReservationReleaseService reservationReleaseService;
+
+    @Mock
+    private ReservationStatusBackfill reservationStatusBackfill;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void backfillsLegacyStatusesBeforeStreamingReservedOrders() {
+        ReservationExpiryScheduler scheduler = new ReservationExpiryScheduler(reservationStore, reservationReleaseService,
+                reservationStatusBackfill, transactionManager, 900_000, 1000, 512, 500, 5000);
+
+        scheduler.rebuild();
+
+        InOrder order = inOrder(reservationStatusBackfill, reservationStore);
+        order.verify(reservationStatusBackfill).run();
+        order.verify(reservationStore).streamReservedOrders(anyInt(), any());
+    }
+
+    @Test
+    void sweepsOverdueReservationsThatNoWheelIsTracking() throws Exception {
+        ReservationExpiryScheduler scheduler = new ReservationExpiryScheduler(reservationStore, reservationReleaseService,
+                reservationStatusBackfill, transactionManager, 900_000, 1000, 512, 2, 5000);
+        when(reservationStore.findOverdueOrders(any(), eq(2)))
+                .thenReturn(List.of("order-1", "order-2"))
+                .thenReturn(List.of("order-3"));
+
+        scheduler.sweepOverdue();
+
+        InOrder order = inOrder(reservationReleaseService);
+        order.verify(reservationReleaseService)
+                .release(eq(List.of("order-1", "order-2")), any(OffsetDateTime.class), eq("RESERVATION_EXPIRED"), eq(null));
+        order.verify(reservationReleaseService)
+                .release(eq(List.of("order-3")), any(OffsetDateTime.class), eq("RESERVATION_EXPIRED"), eq(null));
+        verify(reservationStore, times(2)).findOverdueOrders(any(), eq(2));
+    }
+}
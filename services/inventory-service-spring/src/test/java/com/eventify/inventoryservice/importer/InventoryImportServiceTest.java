@@ -0,0 +1,146 @@
+package com.eventify.inventoryservice.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryImportServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private CopyIn copyIn;
+
+    private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+    private InventoryImportService service;
+    private InventoryImportService.RowSink sink;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new InventoryImportService(dataSource, new ObjectMapper(), applicationEventPublisher, stockLedger);
+        sink = new InventoryImportService.RowSink(copyIn, 64);
+        lenient().doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    void copiesValidCsvRowsAndRejectsTheRest() throws Exception {
+        service.readCsv(reader("""
+                sku,quantity
+                SKU-1, 5
+
+                SKU-2,x
+                SKU-3
+                SKU-"4",-1
+                SKU-"5",7
+                """), sink);
+        sink.finish();
+
+        assertThat(copied.toString(StandardCharsets.UTF_8)).isEqualTo("\"SKU-1\",5\n\"SKU-\"\"5\"\"\",7\n");
+        assertThat(sink.accepted()).isEqualTo(2);
+        assertThat(sink.rejected()).isEqualTo(3);
+        assertThat(sink.sampleErrors()).containsExactly(
+                "line 4: quantity is not an integer",
+                "line 5: expected sku,quantity",
+                "row 6: quantity must not be negative");
+    }
+
+    @Test
+    void rejectsAMalformedNdjsonLineAndKeepsImporting() throws Exception {
+        service.readNdjson(reader("""
+                {"sku":"SKU-1","quantity":5}
+                {"sku":"SKU-2","quantity":
+                [1,2]
+                {"sku":"SKU-3","quantity":1.5}
+                {"sku":"SKU-4","quantity":1} {"sku":"SKU-5","quantity":2}
+
+                {"sku":"SKU-6","quantity":3}
+                """), sink);
+        sink.finish();
+
+        assertThat(copied.toString(StandardCharsets.UTF_8)).isEqualTo("\"SKU-1\",5\n\"SKU-6\",3\n");
+        assertThat(sink.accepted()).isEqualTo(2);
+        assertThat(sink.rejected()).isEqualTo(4);
+        assertThat(sink.sampleErrors()).containsExactly(
+                "line 2: not valid JSON",
+                "line 3: expected a JSON object",
+                "line 4: quantity must be an integer",
+                "line 5: not valid JSON");
+    }
+
+    @Test
+    void resumesAnAddImportAfterItsLastCommittedChunk() throws Exception {
+        ReflectionTestUtils.setField(service, "mergeChunkSize", 2);
+        Connection connection = mock(Connection.class);
+        PreparedStatement progressQuery = mock(PreparedStatement.class);
+        ResultSet progressRow = mock(ResultSet.class);
+        PreparedStatement mergeStatement = mock(PreparedStatement.class);
+        PreparedStatement progressUpsert = mock(PreparedStatement.class);
+        PreparedStatement progressDelete = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT merged_through"))).thenReturn(progressQuery);
+        when(progressQuery.executeQuery()).thenReturn(progressRow);
+        when(progressRow.next()).thenReturn(true);
+        when(progressRow.getLong(1)).thenReturn(2L);
+        when(connection.prepareStatement(startsWith("INSERT INTO inventory_items"))).thenReturn(mergeStatement);
+        when(mergeStatement.executeQuery()).thenAnswer(invocation -> mock(ResultSet.class));
+        when(connection.prepareStatement(startsWith("INSERT INTO inventory_import_progress"))).thenReturn(progressUpsert);
+        when(connection.prepareStatement(startsWith("DELETE FROM inventory_import_progress"))).thenReturn(progressDelete);
+
+        service.merge(connection, ImportMode.ADD, 5, "ADD:feed");
+
+        verify(mergeStatement, never()).setLong(1, 1L);
+        InOrder order = inOrder(mergeStatement, progressUpsert, progressDelete, connection);
+        order.verify(mergeStatement).setLong(1, 3L);
+        order.verify(progressUpsert).setLong(2, 4L);
+        order.verify(connection).commit();
+        order.verify(mergeStatement).setLong(1, 5L);
+        order.verify(progressUpsert).setLong(2, 5L);
+        order.verify(connection).commit();
+        order.verify(progressDelete).executeUpdate();
+        order.verify(connection).commit();
+        verify(connection, times(3)).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventify.inventoryservice.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.eventify.inventoryservice.backpressure.BackpressureController;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.rebalance.PartitionHandoffListener;
+import com.eventify.inventoryservice.service.InventoryReservationService;
+import com.eventify.inventoryservice.tracing.HopLatencyRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryEventConsumerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+
+    @Mock
+    private HotSkuProfiler hotSkuProfiler;
+
+    @Mock
+    private BackpressureController backpressureController;
+
+    @Mock
+    private HopLatencyRecorder hopLatencyRecorder;
+
+    @Mock
+    private PartitionHandoffListener partitionHandoffListener;
+
+    private InventoryEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new InventoryEventConsumer(kafkaTemplate, inventoryReservationService,
+                new InventoryEventFactory(objectMapper), new OrderPlacedEventParser(objectMapper),
+                new PayloadDecoder(1024 * 1024), hotSkuProfiler, backpressureController, hopLatencyRecorder,
+                partitionHandoffListener);
+        ReflectionTestUtils.setField(consumer, "inventoryDlqTopic", "inventory.dlq");
+    }
+
+    @Test
+    void deadLettersATombstoneWithoutParsingIt() throws Exception {
+        consumer.onOrderPlaced(new ConsumerRecord<>("orders.events", 0, 7, "order-1", null));
+
+        JsonNode payload = dlqPayload();
+        assertThat(payload.path("originalEvent").asText()).isEmpty();
+        assertThat(payload.path("error").asText()).contains("tombstone");
+        verify(inventoryReservationService, never()).processOrderPlaced(any(), any());
+    }
+
+    @Test
+    void carriesAnIncompleteDocumentAsText() throws Exception {
+        consumer.onOrderPlaced(new ConsumerRecord<>("orders.events", 0, 7, "order-1",
+                "[1,".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(dlqPayload().path("originalEvent").asText()).isEqualTo("[1,");
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonNode dlqPayload() throws Exception {
+        ArgumentCaptor<ProducerRecord<String, String>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(sent.capture());
+        assertThat(sent.getValue().topic()).isEqualTo("inventory.dlq");
+        return objectMapper.readTree(sent.getValue().value()).path("payload");
+    }
+}
@@ -1,9 +1,11 @@
 package com.eventify.inventoryservice.messaging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class InventoryEventFactoryTest {
@@ -41,4 +43,45 @@ class InventoryEventFactoryTest {
         assertThat(event.path("payload").path("originalEvent").path("eventId").asText())
                 .isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
     }
+
+    @Test
+    void embedsMalformedOriginalAsText() throws Exception {
+        byte[] original = "{\"eventId\":".getBytes(StandardCharsets.UTF_8);
+        String eventJson = inventoryEventFactory.buildDlqEvent(
+                original,
+                false,
+                "11111111-1111-1111-1111-111111111111",
+                "unknown",
+                "Malformed JSON"
+        );
+
+        JsonNode event = objectMapper.readTree(eventJson);
+        assertThat(event.path("payload").path("originalEvent").asText()).isEqualTo("{\"eventId\":");
+    }
+
+    @Test
+    void buildsValidJsonForEveryParserRejection() throws Exception {
+        OrderPlacedEventParser parser = new OrderPlacedEventParser(objectMapper);
+        String[] inputs = {"", "[1,", "[1,2]", "{\"payload\":{\"items\":[{\"quantity\":0}]}} trailing",
+                "{\"payload\":{\"items\":[{\"quantity\":0}]}}"};
+
+        for (String input : inputs) {
+            byte[] original = input.getBytes(StandardCharsets.UTF_8);
+            InvalidEventException rejection = catchThrowableOfType(() -> parser.parse(original), InvalidEventException.class);
+            String eventJson = inventoryEventFactory.buildDlqEvent(
+                    original,
+                    !rejection.isMalformedJson(),
+                    "11111111-1111-1111-1111-111111111111",
+                    "unknown",
+                    rejection.getMessage()
+            );
+
+            JsonNode originalEvent = objectMapper.readTree(eventJson).path("payload").path("originalEvent");
+            if (rejection.isMalformedJson()) {
+                assertThat(originalEvent.asText()).as(input).isEqualTo(input);
+            } else {
+                assertThat(originalEvent).as(input).isEqualTo(objectMapper.readTree(input));
+            }
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.eventify.inventoryservice.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class OrderPlacedEventParserTest {
+
+    private static final String EVENT_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final String CORRELATION_ID = "11111111-1111-1111-1111-111111111111";
+
+    private final OrderPlacedEventParser parser = new OrderPlacedEventParser(new ObjectMapper());
+
+    @Test
+    void parsesValidEventAndSkipsUnknownFields() {
+        OrderPlacedEvent event = parser.parse(bytes("""
+                {"eventId":"%s","eventType":"OrderPlaced","occurredAt":"2026-01-01T10:00:00Z",
+                 "correlationId":"%s","producer":"order-service","version":1,
+                 "extra":{"nested":[1,2,{"x":null}]},
+                 "payload":{"orderId":"o-1","customerId":"c-1","items":[{"sku":"SKU-1","quantity":2,"price":9.5}]}}
+                """.formatted(EVENT_ID, CORRELATION_ID)));
+
+        assertThat(event.eventId()).isEqualTo(EVENT_ID);
+        assertThat(event.version()).isEqualTo(1);
+        assertThat(event.payload().orderId()).isEqualTo("o-1");
+        assertThat(event.payload().items()).containsExactly(new OrderPlacedEvent.Item("SKU-1", 2));
+    }
+
+    @Test
+    void rejectsInvalidItemWithIdsSeenSoFar() {
+        assertThatThrownBy(() -> parser.parse(bytes("""
+                {"eventId":"%s","correlationId":"%s","eventType":"OrderPlaced",
+                 "payload":{"orderId":"o-1","items":[{"sku":"SKU-1","quantity":0}]}}
+                """.formatted(EVENT_ID, CORRELATION_ID))))
+                .isInstanceOfSatisfying(InvalidEventException.class, ex -> {
+                    assertThat(ex.getMessage()).isEqualTo("payload.items[0].quantity must be a positive integer");
+                    assertThat(ex.getEventId()).isEqualTo(EVENT_ID);
+                    assertThat(ex.getCorrelationId()).isEqualTo(CORRELATION_ID);
+                    assertThat(ex.isMalformedJson()).isFalse();
+                });
+    }
+
+    @Test
+    void rejectsNonUuidEventId() {
+        assertThatThrownBy(() -> parser.parse(bytes("""
+                {"eventId":"not-a-uuid","eventType":"OrderPlaced","occurredAt":"2026-01-01T10:00:00Z",
+                 "correlationId":"%s","payload":{"orderId":"o-1","items":[{"sku":"SKU-1","quantity":1}]}}
+                """.formatted(CORRELATION_ID))))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessage("eventId must be a UUID");
+    }
+
+    @Test
+    void flagsMalformedJson() {
+        assertThatThrownBy(() -> parser.parse(bytes("{\"eventId\":\"" + EVENT_ID + "\",")))
+                .isInstanceOfSatisfying(InvalidEventException.class, ex -> {
+                    assertThat(ex.isMalformedJson()).isTrue();
+                    assertThat(ex.getEventId()).isEqualTo(EVENT_ID);
+                });
+    }
+
+    @Test
+    void flagsInputThatIsNotOneCompleteValueAsMalformed() {
+        String truncatedAfterBadItem = """
+                {"eventId":"%s","payload":{"orderId":"o-1","items":[{"sku":"SKU-1","quantity":0},{"sku":
+                """.formatted(EVENT_ID);
+        String trailing = """
+                {"eventId":"%s","eventType":"OrderPlaced","occurredAt":"2026-01-01T10:00:00Z",
+                 "correlationId":"%s","payload":{"orderId":"o-1","items":[{"sku":"SKU-1","quantity":1}]}} {"x":1}
+                """.formatted(EVENT_ID, CORRELATION_ID);
+
+        for (String input : new String[] {"", "  ", "[1,", truncatedAfterBadItem, trailing}) {
+            assertThatThrownBy(() -> parser.parse(bytes(input)))
+                    .as(input)
+                    .isInstanceOfSatisfying(InvalidEventException.class, ex -> assertThat(ex.isMalformedJson()).isTrue());
+        }
+        assertThatThrownBy(() -> parser.parse(null))
+                .isInstanceOfSatisfying(InvalidEventException.class, ex -> assertThat(ex.isMalformedJson()).isTrue());
+    }
+
+    @Test
+    void readsToTheEndBeforeReportingAValidationFailure() {
+        assertThatThrownBy(() -> parser.parse(bytes("[1,{\"a\":[2]}]")))
+                .isInstanceOfSatisfying(InvalidEventException.class, ex -> {
+                    assertThat(ex.getMessage()).isEqualTo("event must be a JSON object");
+                    assertThat(ex.isMalformedJson()).isFalse();
+                });
+        assertThatThrownBy(() -> parser.parse(bytes("""
+                {"eventId":"%s","payload":{"items":[{"sku":"SKU-1","quantity":99999999999}]},"extra":[1]}
+                """.formatted(EVENT_ID))))
+                .isInstanceOfSatisfying(InvalidEventException.class, ex -> {
+                    assertThat(ex.isMalformedJson()).isFalse();
+                    assertThat(ex.getEventId()).isEqualTo(EVENT_ID);
+                });
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
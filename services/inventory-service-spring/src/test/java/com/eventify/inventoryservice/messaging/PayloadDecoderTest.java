@@ -0,0 +1,60 @@
+package com.eventify.inventoryservice.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class PayloadDecoderTest {
+
+    private final PayloadDecoder decoder = new PayloadDecoder(1024);
+
+    @Test
+    void passesThroughRecordsWithoutContentEncoding() {
+        byte[] json = "{\"eventType\":\"OrderPlaced\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(decoder.decode(json, new RecordHeaders())).isSameAs(json);
+    }
+
+    @Test
+    void inflatesGzipPayloads() throws IOException {
+        byte[] json = "{\"eventType\":\"OrderPlaced\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(decoder.decode(gzip(json), gzipHeaders())).isEqualTo(json);
+    }
+
+    @Test
+    void rejectsCorruptOversizedAndUnknownEncodings() throws IOException {
+        RecordHeaders brotli = new RecordHeaders();
+        brotli.add(PayloadDecoder.CONTENT_ENCODING, "br".getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> decoder.decode(new byte[] {1, 2, 3}, gzipHeaders()))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessageStartingWith("Corrupt gzip payload");
+        assertThatThrownBy(() -> decoder.decode(gzip(new byte[2048]), gzipHeaders()))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessageContaining("exceeds 1024 bytes");
+        assertThatThrownBy(() -> decoder.decode(new byte[] {1}, brotli))
+                .isInstanceOf(InvalidEventException.class)
+                .hasMessage("Unsupported content-encoding: br");
+    }
+
+    private static RecordHeaders gzipHeaders() {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(PayloadDecoder.CONTENT_ENCODING, "gzip".getBytes(StandardCharsets.US_ASCII));
+        return headers;
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
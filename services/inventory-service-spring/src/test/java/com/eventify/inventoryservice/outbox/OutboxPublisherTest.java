@@ -0,0 +1,116 @@
+package com.eventify.inventoryservice.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.tracing.HopLatencyRecorder;
+import com.eventify.inventoryservice.tracing.TraceHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaOperations<String, String> kafkaOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void publishPendingSendsWholeBatchBeforeMarkingRowsSent() {
+        OutboxEventEntity reserved = event("evt-1", "order-1", "InventoryReserved");
+        OutboxEventEntity outOfStock = event("evt-2", "order-2", "OutOfStock");
+
+        when(outboxEventRepository.lockPendingBatch(anyInt())).thenReturn(List.of(reserved, outOfStock));
+        when(kafkaOperations.send("inventory.events", "order-1", reserved.getPayload()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaOperations.send("inventory.events", "order-2", outOfStock.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        OutboxPublisher publisher = publisher();
+        publisher.publishPending();
+
+        verify(kafkaOperations).send("inventory.events", "order-1", reserved.getPayload());
+        verify(kafkaOperations).send("inventory.events", "order-2", outOfStock.getPayload());
+        assertThat(reserved.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(reserved.getSentAt()).isNotNull();
+        assertThat(outOfStock.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    void holdsBackLaterEventsOfAnAggregateWhoseEarlierEventFailed() {
+        OutboxEventEntity reserved = event("evt-1", "order-1", "InventoryReserved");
+        OutboxEventEntity released = event("evt-2", "order-1", "InventoryReleased");
+        OutboxEventEntity other = event("evt-3", "order-2", "InventoryReserved");
+
+        when(outboxEventRepository.lockPendingBatch(anyInt())).thenReturn(List.of(reserved, released, other));
+        when(kafkaOperations.send("inventory.events", "order-1", reserved.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaOperations.send("inventory.events", "order-1", released.getPayload()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaOperations.send("inventory.events", "order-2", other.getPayload()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher().publishPending();
+
+        assertThat(reserved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(released.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(other.getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tracedOutcomeForwardsIntakeStampAndRecordsEndToEnd() {
+        OffsetDateTime intakeAt = OffsetDateTime.now().minusSeconds(2);
+        OutboxEventEntity reserved = new OutboxEventEntity(
+                "evt-1", "order-1", "InventoryReserved", "inventory.events", "{}", OffsetDateTime.now(), intakeAt);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        when(outboxEventRepository.lockPendingBatch(anyInt())).thenReturn(List.of(reserved));
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        new OutboxPublisher(outboxEventRepository, kafkaOperations, new TransactionTemplate(transactionManager),
+                new HopLatencyRecorder(meterRegistry)).publishPending();
+
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaOperations).send(captor.capture());
+        assertThat(TraceHeaders.readMillis(captor.getValue().headers(), TraceHeaders.INTAKE_MS))
+                .isEqualTo(intakeAt.toInstant().toEpochMilli());
+        assertThat(reserved.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(meterRegistry.get("eventify.trace.hop").tag("hop", "end-to-end").timer().count()).isEqualTo(1);
+    }
+
+    private OutboxPublisher publisher() {
+        return new OutboxPublisher(outboxEventRepository, kafkaOperations, new TransactionTemplate(transactionManager),
+                new HopLatencyRecorder(new SimpleMeterRegistry()));
+    }
+
+    private OutboxEventEntity event(String id, String orderId, String eventType) {
+        return new OutboxEventEntity(
+                id,
+                orderId,
+                eventType,
+                "inventory.events",
+                "{\"eventType\":\"" + eventType + "\"}",
+                OffsetDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.eventify.inventoryservice.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    void keepsHeavyHittersWithinCapacity() {
+        SpaceSavingTopK topK = new SpaceSavingTopK(8);
+        for (int i = 0; i < 1000; i++) {
+            topK.add("HOT-A", 1);
+            if (i % 2 == 0) {
+                topK.add("HOT-B", 1);
+            }
+            topK.add("COLD-" + i, 1);
+        }
+
+        List<SpaceSavingTopK.Entry> top = topK.top(2);
+        assertThat(topK.size()).isEqualTo(8);
+        assertThat(top).extracting(SpaceSavingTopK.Entry::key).containsExactly("HOT-A", "HOT-B");
+        assertThat(top.get(0).weight() - top.get(0).error()).isLessThanOrEqualTo(1000);
+        assertThat(top.get(0).weight()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void decayShrinksWeightsAndDropsEmptyCounters() {
+        SpaceSavingTopK topK = new SpaceSavingTopK(4);
+        topK.add("SKU-1", 8);
+
+        topK.decay(0.5);
+        assertThat(topK.top(1).get(0).weight()).isEqualTo(4);
+
+        topK.decay(0);
+        assertThat(topK.size()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.eventify.inventoryservice.rebalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import com.eventify.inventoryservice.service.StockQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionHandoffListenerTest {
+
+    private static final TopicPartition P0 = new TopicPartition("orders.events", 0);
+    private static final TopicPartition P1 = new TopicPartition("orders.events", 1);
+
+    @Mock
+    private Consumer<String, byte[]> consumer;
+
+    @Mock
+    private StockQueryService stockQueryService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PartitionHandoffListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PartitionHandoffListener(new HotSkuProfiler(meterRegistry, 16), stockQueryService, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.shutdown();
+    }
+
+    @Test
+    void commitsNextOffsetOfHandledRecordsForRevokedPartitionsOnly() {
+        listener.recordHandled(record(P0, 41));
+        listener.recordHandled(record(P0, 42));
+        listener.recordHandled(record(P1, 7));
+
+        listener.onPartitionsRevokedBeforeCommit(consumer, List.of(P0));
+
+        verify(consumer).commitSync(eq(Map.of(P0, new OffsetAndMetadata(43))), any(Duration.class));
+        assertThat(meterRegistry.counter("inventory.rebalance.partitions", "event", "revoked").count()).isEqualTo(1);
+    }
+
+    @Test
+    void revokingPartitionsWithNothingHandledCommitsNothing() {
+        listener.onPartitionsRevokedBeforeCommit(consumer, List.of(P1));
+
+        verify(consumer, never()).commitSync(anyMap(), any(Duration.class));
+    }
+
+    @Test
+    void measuresTheFirstRecordAfterAssignmentOnce() {
+        listener.onPartitionsAssigned(consumer, List.of(P0, P1));
+
+        listener.recordHandled(record(P0, 100));
+        listener.recordHandled(record(P0, 101));
+
+        assertThat(meterRegistry.timer("inventory.rebalance.first-record").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("inventory.rebalance.handoff-lag").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("inventory.rebalance.partitions", "event", "assigned").count()).isEqualTo(2);
+
+        listener.onPartitionsLost(consumer, List.of(P1));
+        listener.recordHandled(record(P1, 5));
+        assertThat(meterRegistry.timer("inventory.rebalance.first-record").count()).isEqualTo(1);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(TopicPartition partition, long offset) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "order-1", new byte[0]);
+    }
+}
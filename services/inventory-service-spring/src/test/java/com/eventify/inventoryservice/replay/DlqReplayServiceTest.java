@@ -0,0 +1,155 @@
+package com.eventify.inventoryservice.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.dedupe.EventDeduplicator;
+import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.messaging.OrderPlacedEventParser;
+import com.eventify.inventoryservice.service.InventoryReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DlqReplayServiceTest {
+
+    private static final String TOPIC = "inventory.dlq";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private EventDeduplicator eventDeduplicator;
+
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+
+    private final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private DlqReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        service = new DlqReplayService(consumerFactory, objectMapper, new OrderPlacedEventParser(objectMapper),
+                eventDeduplicator, inventoryReservationService);
+        ReflectionTestUtils.setField(service, "inventoryDlqTopic", TOPIC);
+        ReflectionTestUtils.setField(service, "defaultRatePerSecond", 1000.0);
+        ReflectionTestUtils.setField(service, "maxRatePerSecond", 1000.0);
+        when(consumerFactory.createConsumer(anyString(), anyString(), anyString(), any(Properties.class)))
+                .thenReturn(consumer);
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void replaysOnlyMatchingRecordsUpToTheEndOffsetsCapturedAtStart() throws Exception {
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, "evt-1", "Validation failed: quantity"));
+            consumer.addRecord(record(1, "evt-2", "Validation failed: sku"));
+            consumer.addRecord(record(2, "evt-3", "Processing failed: timeout"));
+            consumer.addRecord(record(3, "evt-1", "Validation failed: late arrival"));
+        });
+        when(inventoryReservationService.processOrderPlaced(any())).thenReturn(true);
+
+        DlqReplayJob job = service.submit(new DlqReplayRequest("Validation", null, null,
+                Set.of("evt-1", "evt-3"), null, null));
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(DlqReplayStatus.COMPLETED);
+        assertThat(job.getScanned()).isEqualTo(3);
+        assertThat(job.getMatched()).isEqualTo(1);
+        assertThat(job.getReplayed()).isEqualTo(1);
+        ArgumentCaptor<OrderPlacedEvent> replayed = ArgumentCaptor.forClass(OrderPlacedEvent.class);
+        verify(inventoryReservationService).processOrderPlaced(replayed.capture());
+        assertThat(replayed.getValue().eventId()).isEqualTo(eventId("evt-1"));
+        assertThat(replayed.getValue().payload().orderId()).isEqualTo("order-0");
+    }
+
+    @Test
+    void stopsAfterTheCurrentRecordWhenCancelled() throws Exception {
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < 3; offset++) {
+                consumer.addRecord(record(offset, "evt-" + offset, "Validation failed"));
+            }
+        });
+        CountDownLatch replaying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(inventoryReservationService.processOrderPlaced(any())).thenAnswer(invocation -> {
+            replaying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        DlqReplayJob job = service.submit(new DlqReplayRequest(null, null, null, null, null, null));
+        assertThat(replaying.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.cancel(job.getId())).isEqualTo(Optional.of(job));
+        release.countDown();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(DlqReplayStatus.CANCELLED);
+        assertThat(job.getReplayed()).isEqualTo(1);
+        verify(inventoryReservationService, times(1)).processOrderPlaced(any());
+    }
+
+    private static void awaitFinished(DlqReplayJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((job.getStatus() == DlqReplayStatus.QUEUED || job.getStatus() == DlqReplayStatus.RUNNING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String key, String error) {
+        String original = """
+                {"eventId":"%s","eventType":"OrderPlaced","occurredAt":"2026-10-19T14:00:00Z",
+                 "correlationId":"11111111-1111-1111-1111-111111111111",
+                 "payload":{"orderId":"order-%d","customerId":"c-1","items":[{"sku":"SKU-1","quantity":1}]}}
+                """.formatted(eventId(key), offset);
+        String value = "{\"eventType\":\"InventoryDlq\",\"payload\":{\"originalEvent\":" + original + "}}";
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(new RecordHeader("x-error", error.getBytes(StandardCharsets.UTF_8)));
+        return new ConsumerRecord<>(TOPIC, 0, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+                0, 0, key, value, headers, Optional.empty());
+    }
+
+    private static String eventId(String key) {
+        return "aaaaaaaa-aaaa-aaaa-aaaa-00000000000" + key.charAt(key.length() - 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.eventify.inventoryservice.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RatePacerTest {
+
+    @Test
+    void spacesPermitsAtTheConfiguredRate() throws InterruptedException {
+        RatePacer pacer = new RatePacer(100);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            pacer.acquire();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(95);
+    }
+
+    @Test
+    void doesNotBurstAfterAnIdlePeriod() throws InterruptedException {
+        RatePacer pacer = new RatePacer(20);
+        pacer.acquire();
+        Thread.sleep(300);
+
+        long startedAt = System.nanoTime();
+        pacer.acquire();
+        pacer.acquire();
+        pacer.acquire();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(95);
+    }
+
+    @Test
+    void rejectsANonPositiveRate() {
+        assertThatThrownBy(() -> new RatePacer(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
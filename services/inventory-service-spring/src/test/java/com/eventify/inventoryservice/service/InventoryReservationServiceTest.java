@@ -0,0 +1,87 @@
+package com.eventify.inventoryservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.dedupe.EventDeduplicator;
+import com.eventify.inventoryservice.domain.ReservationStore;
+import com.eventify.inventoryservice.domain.ReservationStore.ReservationLine;
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockTake;
+import com.eventify.inventoryservice.messaging.InventoryEventFactory;
+import com.eventify.inventoryservice.messaging.OrderPlacedEvent;
+import com.eventify.inventoryservice.outbox.OutboxEventRepository;
+import com.eventify.inventoryservice.profiling.HotSkuProfiler;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationServiceTest {
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private ReservationStore reservationStore;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private InventoryEventFactory inventoryEventFactory;
+
+    @Mock
+    private EventDeduplicator eventDeduplicator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private HotSkuProfiler hotSkuProfiler;
+
+    @Test
+    void takesRepeatedSkusOnceAndInSkuOrder() throws Exception {
+        InventoryReservationService service = new InventoryReservationService(stockLedger, reservationStore,
+                outboxEventRepository, inventoryEventFactory, eventDeduplicator, applicationEventPublisher, hotSkuProfiler);
+        when(eventDeduplicator.markProcessed(anyString(), anyString())).thenReturn(true);
+        when(stockLedger.take(anyString(), anyInt()))
+                .thenAnswer(invocation -> new StockTake(invocation.getArgument(0), invocation.getArgument(1), List.of(), null));
+
+        boolean handled = service.processOrderPlaced(event(
+                new OrderPlacedEvent.Item("SKU-2", 1),
+                new OrderPlacedEvent.Item("SKU-1", 2),
+                new OrderPlacedEvent.Item("SKU-2", 3)));
+
+        assertThat(handled).isTrue();
+        InOrder takes = inOrder(stockLedger);
+        takes.verify(stockLedger).take("SKU-1", 2);
+        takes.verify(stockLedger).take("SKU-2", 4);
+        verify(stockLedger, times(2)).take(anyString(), anyInt());
+        verify(reservationStore).insert(eq("order-1"),
+                eq(List.of(new ReservationLine("SKU-1", 2), new ReservationLine("SKU-2", 4))), any());
+    }
+
+    private static OrderPlacedEvent event(OrderPlacedEvent.Item... items) {
+        return new OrderPlacedEvent(
+                "11111111-1111-1111-1111-111111111111",
+                "OrderPlaced",
+                "2026-01-01T00:00:00Z",
+                "22222222-2222-2222-2222-222222222222",
+                "order-service",
+                1,
+                new OrderPlacedEvent.Payload("order-1", List.of(items))
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventify.inventoryservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.eventify.inventoryservice.domain.StockLevel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StockLevelCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-19T14:00:00Z"));
+
+    @Test
+    void keepsTheNewerLevelWhenAnOlderVersionArrivesLate() {
+        StockLevelCache cache = new StockLevelCache(10, 5000, clock);
+
+        cache.put(new StockLevel("SKU-1", 7, 3));
+        cache.onStockLevelsChanged(new StockLevelsChangedEvent(List.of(new StockLevel("SKU-1", 9, 2))));
+
+        assertThat(cache.get("SKU-1")).isEqualTo(new StockLevel("SKU-1", 7, 3));
+
+        cache.put(new StockLevel("SKU-1", 4, 4));
+        assertThat(cache.get("SKU-1")).isEqualTo(new StockLevel("SKU-1", 4, 4));
+    }
+
+    @Test
+    void dropsEntriesOlderThanTheTtl() {
+        StockLevelCache cache = new StockLevelCache(10, 5000, clock);
+        cache.put(new StockLevel("SKU-1", 7, 1));
+
+        clock.advance(Duration.ofMillis(5000));
+        assertThat(cache.get("SKU-1")).isNotNull();
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(cache.get("SKU-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyReadEntryWhenFull() {
+        StockLevelCache cache = new StockLevelCache(2, 5000, clock);
+        cache.put(new StockLevel("SKU-1", 1, 1));
+        cache.put(new StockLevel("SKU-2", 2, 1));
+
+        cache.get("SKU-1");
+        cache.put(new StockLevel("SKU-3", 3, 1));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("SKU-2")).isNull();
+        assertThat(cache.get("SKU-1")).isNotNull();
+        assertThat(cache.get("SKU-3")).isNotNull();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
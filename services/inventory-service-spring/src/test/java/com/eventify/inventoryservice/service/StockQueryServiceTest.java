@@ -0,0 +1,55 @@
+package com.eventify.inventoryservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.inventoryservice.domain.StockLedger;
+import com.eventify.inventoryservice.domain.StockLevel;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StockQueryServiceTest {
+
+    @Mock
+    private StockLedger stockLedger;
+
+    private final StockLevelCache stockLevelCache = new StockLevelCache(100, 60_000);
+
+    @Test
+    void loadsAllMissesInOneBatchAndKeepsRequestOrder() {
+        stockLevelCache.put(new StockLevel("SKU-2", 20, 1));
+        when(stockLedger.levels(List.of("SKU-3", "SKU-1", "SKU-4")))
+                .thenReturn(List.of(new StockLevel("SKU-1", 10, 1), new StockLevel("SKU-3", 30, 1)));
+        StockQueryService service = new StockQueryService(stockLedger, stockLevelCache);
+
+        List<StockLevel> levels = service.findAll(List.of("SKU-3", "SKU-2", "SKU-1", "SKU-4"));
+
+        assertThat(levels).extracting(StockLevel::sku).containsExactly("SKU-3", "SKU-2", "SKU-1");
+        assertThat(stockLevelCache.get("SKU-1")).isEqualTo(new StockLevel("SKU-1", 10, 1));
+        assertThat(stockLevelCache.get("SKU-4")).isNull();
+    }
+
+    @Test
+    void servesCachedLevelsWithoutTouchingTheLedger() {
+        stockLevelCache.put(new StockLevel("SKU-1", 10, 5));
+        StockQueryService service = new StockQueryService(stockLedger, stockLevelCache);
+
+        assertThat(service.find("SKU-1")).contains(new StockLevel("SKU-1", 10, 5));
+        verify(stockLedger, never()).levels(any());
+    }
+
+    @Test
+    void returnsEmptyForAnUnknownSku() {
+        when(stockLedger.levels(List.of("SKU-9"))).thenReturn(List.of());
+        StockQueryService service = new StockQueryService(stockLedger, stockLevelCache);
+
+        assertThat(service.find("SKU-9")).isEmpty();
+    }
+}
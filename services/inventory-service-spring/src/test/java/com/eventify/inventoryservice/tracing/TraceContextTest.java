@@ -0,0 +1,34 @@
+package com.eventify.inventoryservice.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class TraceContextTest {
+
+    @Test
+    void readsHopStampsFromHeaders() {
+        RecordHeaders headers = new RecordHeaders();
+        TraceHeaders.putMillis(headers, TraceHeaders.INTAKE_MS, 1_700_000_000_000L);
+        TraceHeaders.putMillis(headers, TraceHeaders.OUTBOX_MS, 1_700_000_000_012L);
+        TraceHeaders.putMillis(headers, TraceHeaders.PUBLISH_MS, 1_700_000_000_250L);
+
+        assertThat(TraceContext.from(headers))
+                .isEqualTo(new TraceContext(1_700_000_000_000L, 1_700_000_000_012L, 1_700_000_000_250L));
+    }
+
+    @Test
+    void unsampledOrMalformedStampsAreIgnored() {
+        RecordHeaders headers = new RecordHeaders();
+        assertThat(TraceContext.from(headers)).isNull();
+
+        headers.add(TraceHeaders.INTAKE_MS, "17e11".getBytes(StandardCharsets.US_ASCII));
+        assertThat(TraceContext.from(headers)).isNull();
+
+        TraceHeaders.putMillis(headers, TraceHeaders.INTAKE_MS, 1_000L);
+        headers.add(TraceHeaders.PUBLISH_MS, "-5".getBytes(StandardCharsets.US_ASCII));
+        assertThat(TraceContext.from(headers)).isEqualTo(new TraceContext(1_000L, -1, -1));
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventify.orderservice.archive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.outbox-archive.enabled", havingValue = "true")
+public class ArchiveConfig {
+
+    @Bean(destroyMethod = "close")
+    public SegmentArchive segmentArchive(ArchiveProperties properties) throws IOException {
+        return SegmentArchive.open(Path.of(properties.dir()), properties.bucket(), properties.maxSegmentBytes());
+    }
+}
@@ -0,0 +1,151 @@
+package com.eventify.orderservice.archive;
+
+import com.eventify.orderservice.archive.SegmentArchive.SegmentView;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Reads a time range out of a {@link SegmentArchive}. Each shard is read front to back: a segment's index is
+ * checked block by block, blocks outside the range or whose bloom filter rules out the aggregate are skipped
+ * without being touched, and the rest are decompressed straight from a read-only mapping of the segment. Shards
+ * are merged on sentAt so the replay comes out close to publish order.
+ *
+ * <p>Not thread-safe. Read errors surface as {@link UncheckedIOException}.
+ */
+public final class ArchiveCursor implements Iterator<ArchivedEvent> {
+
+    private final long fromMs;
+    private final long toMs;
+    private final String aggregateId;
+    private final PriorityQueue<ShardCursor> heads =
+            new PriorityQueue<>(Comparator.comparing((ShardCursor cursor) -> cursor.head.sentAt()));
+
+    private long blocksRead;
+    private long blocksSkipped;
+
+    ArchiveCursor(List<List<SegmentView>> shards, long fromMs, long toMs, String aggregateId) {
+        this.fromMs = fromMs;
+        this.toMs = toMs;
+        this.aggregateId = aggregateId;
+        for (List<SegmentView> segments : shards) {
+            ShardCursor cursor = new ShardCursor(segments);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public ArchivedEvent next() {
+        ShardCursor cursor = heads.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+
+        ArchivedEvent event = cursor.head;
+        if (cursor.advance()) {
+            heads.add(cursor);
+        }
+        return event;
+    }
+
+    public long blocksRead() {
+        return blocksRead;
+    }
+
+    public long blocksSkipped() {
+        return blocksSkipped;
+    }
+
+    private boolean matches(ArchivedEvent event) {
+        long sentAt = event.sentAt().toEpochMilli();
+        return sentAt >= fromMs && sentAt <= toMs && (aggregateId == null || aggregateId.equals(event.aggregateId()));
+    }
+
+    private final class ShardCursor {
+
+        private final Deque<SegmentView> segments;
+        private final Deque<BlockIndexEntry> entries = new ArrayDeque<>();
+        private final Deque<ArchivedEvent> block = new ArrayDeque<>();
+        private MappedByteBuffer mapped;
+        private ArchivedEvent head;
+
+        private ShardCursor(List<SegmentView> segments) {
+            this.segments = new ArrayDeque<>(segments);
+        }
+
+        /** Moves {@link #head} to the next matching event; returns false when the shard is exhausted. */
+        private boolean advance() {
+            try {
+                while (true) {
+                    while (!block.isEmpty()) {
+                        ArchivedEvent event = block.poll();
+                        if (matches(event)) {
+                            head = event;
+                            return true;
+                        }
+                    }
+                    if (!nextBlock()) {
+                        head = null;
+                        return false;
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private boolean nextBlock() throws IOException {
+            while (true) {
+                while (!entries.isEmpty()) {
+                    BlockIndexEntry entry = entries.poll();
+                    if (!entry.overlaps(fromMs, toMs) || (aggregateId != null && !entry.mightContain(aggregateId))) {
+                        blocksSkipped++;
+                        continue;
+                    }
+                    blocksRead++;
+                    block.addAll(SegmentArchive.decode(mapped, (int) entry.offset(), entry));
+                    return true;
+                }
+                if (!nextSegment()) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean nextSegment() throws IOException {
+            mapped = null;
+            while (!segments.isEmpty()) {
+                SegmentView segment = segments.poll();
+                List<BlockIndexEntry> index = segment.entries();
+                if (index.stream().noneMatch(entry -> entry.overlaps(fromMs, toMs))) {
+                    blocksSkipped += index.size();
+                    continue;
+                }
+
+                long end = index.get(index.size() - 1).end();
+                try (FileChannel channel = FileChannel.open(segment.segment().data(), StandardOpenOption.READ)) {
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+                }
+                entries.addAll(index);
+                return true;
+            }
+            return false;
+        }
+    }
+}
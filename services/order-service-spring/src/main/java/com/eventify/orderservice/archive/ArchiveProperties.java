@@ -0,0 +1,33 @@
+package com.eventify.orderservice.archive;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code app.outbox-archive.*}. Off by default. Events are archived once they have been SENT for {@code minAge};
+ * archived rows are deleted from the outbox. Like the intake journal, the directory must be a volume that outlives
+ * the process, and only one instance may archive into it.
+ */
+@ConfigurationProperties(prefix = "app.outbox-archive")
+public record ArchiveProperties(
+        boolean enabled,
+        String dir,
+        Duration bucket,
+        Long maxSegmentBytes,
+        Duration minAge,
+        Integer batchSize,
+        Long intervalMs
+) {
+
+    public ArchiveProperties {
+        dir = dir == null ? "data/outbox-archive" : dir;
+        bucket = bucket == null ? Duration.ofHours(1) : bucket;
+        maxSegmentBytes = maxSegmentBytes == null ? 256L * 1024 * 1024 : maxSegmentBytes;
+        minAge = minAge == null ? Duration.ofMinutes(15) : minAge;
+        batchSize = batchSize == null ? SegmentArchive.MAX_BLOCK_EVENTS : batchSize;
+        intervalMs = intervalMs == null ? 60_000L : intervalMs;
+        if (batchSize < 1 || batchSize > SegmentArchive.MAX_BLOCK_EVENTS) {
+            throw new IllegalArgumentException("app.outbox-archive.batch-size must be in [1, " + SegmentArchive.MAX_BLOCK_EVENTS + "]");
+        }
+    }
+}
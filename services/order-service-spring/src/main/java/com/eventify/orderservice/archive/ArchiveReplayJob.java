@@ -0,0 +1,118 @@
+package com.eventify.orderservice.archive;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ArchiveReplayJob {
+
+    private static final int MAX_SAMPLE_ERRORS = 20;
+
+    private final String id;
+    private final ArchiveReplayRequest request;
+    private final OffsetDateTime createdAt;
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<String> sampleErrors = new CopyOnWriteArrayList<>();
+
+    private volatile ArchiveReplayStatus status = ArchiveReplayStatus.QUEUED;
+    private volatile long blocksRead;
+    private volatile long blocksSkipped;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+    private volatile boolean cancelRequested;
+
+    ArchiveReplayJob(String id, ArchiveReplayRequest request) {
+        this.id = id;
+        this.request = request;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ArchiveReplayRequest getRequest() {
+        return request;
+    }
+
+    public ArchiveReplayStatus getStatus() {
+        return status;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public OffsetDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getMatched() {
+        return matched.get();
+    }
+
+    public long getPublished() {
+        return published.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getBlocksRead() {
+        return blocksRead;
+    }
+
+    public long getBlocksSkipped() {
+        return blocksSkipped;
+    }
+
+    public List<String> getSampleErrors() {
+        return sampleErrors;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void start() {
+        this.startedAt = OffsetDateTime.now();
+        this.status = ArchiveReplayStatus.RUNNING;
+    }
+
+    void finish(ArchiveReplayStatus finalStatus) {
+        this.finishedAt = OffsetDateTime.now();
+        this.status = finalStatus;
+    }
+
+    void recordMatched() {
+        matched.incrementAndGet();
+    }
+
+    void recordPublished() {
+        published.incrementAndGet();
+    }
+
+    void recordBlocks(long read, long skipped) {
+        this.blocksRead = read;
+        this.blocksSkipped = skipped;
+    }
+
+    void recordFailed(String error) {
+        failed.incrementAndGet();
+        if (sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+            sampleErrors.add(error);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventify.orderservice.archive;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Selects archived events by sentAt, {@code from} and {@code to} inclusive, and optionally by aggregate (order) id.
+ * {@code topic} is required and must not be one consumed live, such as {@code orders.events}.
+ */
+public record ArchiveReplayRequest(
+        OffsetDateTime from,
+        OffsetDateTime to,
+        String aggregateId,
+        String topic,
+        Double ratePerSecond,
+        Long maxRecords
+) {
+}
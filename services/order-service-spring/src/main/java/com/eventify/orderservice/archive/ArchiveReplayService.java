@@ -0,0 +1,204 @@
+package com.eventify.orderservice.archive;
+
+import com.eventify.orderservice.outbox.PayloadCodec;
+import com.eventify.orderservice.outbox.TraceHeaders;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams a time range of the {@link SegmentArchive} back onto Kafka on a single dedicated thread, paced to a fixed
+ * rate. Records keep their key, payload and content encoding and carry {@code x-archive-replay} with the job id.
+ *
+ * <p>Replays always go to a topic the caller names, never to a live one: consumers only remember processed event
+ * ids for the dedupe retention window, so an archived OrderPlaced on {@code orders.events} would reserve stock and
+ * charge payment again.
+ */
+@Service
+@ConditionalOnProperty(name = "app.outbox-archive.enabled", havingValue = "true")
+public class ArchiveReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveReplayService.class);
+
+    static final String REPLAY_HEADER = "x-archive-replay";
+
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final int MAX_IN_FLIGHT = 500;
+
+    private final SegmentArchive archive;
+    private final KafkaOperations<String, byte[]> kafkaOperations;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-archive-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ArchiveReplayJob> jobs = new LinkedHashMap<>();
+
+    @Value("${app.outbox-archive.replay.default-rate-per-second:200}")
+    private double defaultRatePerSecond = 200;
+
+    @Value("${app.outbox-archive.replay.max-rate-per-second:2000}")
+    private double maxRatePerSecond = 2000;
+
+    @Value("${app.outbox-archive.replay.live-topics:orders.events,order.lifecycle.events}")
+    private Set<String> liveTopics = Set.of("orders.events", "order.lifecycle.events");
+
+    public ArchiveReplayService(SegmentArchive archive, KafkaOperations<String, byte[]> kafkaOperations) {
+        this.archive = archive;
+        this.kafkaOperations = kafkaOperations;
+    }
+
+    public synchronized ArchiveReplayJob submit(ArchiveReplayRequest request) {
+        if (request.from() == null || request.to() == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (request.from().isAfter(request.to())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (request.topic() == null || request.topic().isBlank()) {
+            throw new IllegalArgumentException("topic is required");
+        }
+        if (liveTopics.contains(request.topic().trim())) {
+            throw new IllegalArgumentException("topic " + request.topic().trim() + " is consumed live; replay onto another topic");
+        }
+        if (request.ratePerSecond() != null && (request.ratePerSecond() <= 0 || request.ratePerSecond() > maxRatePerSecond)) {
+            throw new IllegalArgumentException("ratePerSecond must be in (0, " + maxRatePerSecond + "]");
+        }
+        if (request.maxRecords() != null && request.maxRecords() <= 0) {
+            throw new IllegalArgumentException("maxRecords must be positive");
+        }
+
+        ArchiveReplayJob job = new ArchiveReplayJob(UUID.randomUUID().toString(), request);
+        jobs.put(job.getId(), job);
+        evictFinishedJobs();
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    public synchronized Optional<ArchiveReplayJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public synchronized List<ArchiveReplayJob> list() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    public synchronized Optional<ArchiveReplayJob> cancel(String jobId) {
+        ArchiveReplayJob job = jobs.get(jobId);
+        if (job != null) {
+            job.requestCancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(ArchiveReplayJob::requestCancel);
+        }
+        executor.shutdownNow();
+    }
+
+    private void run(ArchiveReplayJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(ArchiveReplayStatus.CANCELLED);
+            return;
+        }
+
+        ArchiveReplayRequest request = job.getRequest();
+        RatePacer pacer = new RatePacer(request.ratePerSecond() == null ? defaultRatePerSecond : request.ratePerSecond());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        ArchiveCursor cursor = null;
+
+        job.start();
+        log.info("Archive replay started jobId={} from={} to={} aggregateId={}",
+                job.getId(), request.from(), request.to(), request.aggregateId());
+        try {
+            cursor = archive.scan(request.from().toInstant(), request.to().toInstant(), request.aggregateId());
+            while (cursor.hasNext() && !job.isCancelRequested() && !limitReached(job, request)) {
+                ArchivedEvent event = cursor.next();
+                job.recordMatched();
+                pacer.acquire();
+                inFlight.add(kafkaOperations.send(toRecord(job, event, request.topic().trim())).handle((result, ex) -> {
+                    if (ex == null) {
+                        job.recordPublished();
+                    } else {
+                        job.recordFailed("event " + event.id() + ": " + ex.getMessage());
+                    }
+                    return null;
+                }));
+                if (inFlight.size() >= MAX_IN_FLIGHT) {
+                    awaitAll(inFlight);
+                }
+                job.recordBlocks(cursor.blocksRead(), cursor.blocksSkipped());
+            }
+
+            kafkaOperations.flush();
+            awaitAll(inFlight);
+            job.finish(job.isCancelRequested() ? ArchiveReplayStatus.CANCELLED : ArchiveReplayStatus.COMPLETED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.finish(ArchiveReplayStatus.CANCELLED);
+        } catch (Exception ex) {
+            log.error("Archive replay failed jobId={}", job.getId(), ex);
+            job.recordFailed("Replay aborted: " + ex.getMessage());
+            job.finish(ArchiveReplayStatus.FAILED);
+        }
+        if (cursor != null) {
+            job.recordBlocks(cursor.blocksRead(), cursor.blocksSkipped());
+        }
+
+        log.info("Archive replay finished jobId={} status={} matched={} published={} failed={} blocksRead={} blocksSkipped={}",
+                job.getId(), job.getStatus(), job.getMatched(), job.getPublished(), job.getFailed(),
+                job.getBlocksRead(), job.getBlocksSkipped());
+    }
+
+    private static ProducerRecord<String, byte[]> toRecord(ArchiveReplayJob job, ArchivedEvent event, String topic) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, event.aggregateId(), event.payload());
+        Headers headers = record.headers();
+        if (event.contentEncoding() != null) {
+            headers.add(PayloadCodec.CONTENT_ENCODING, event.contentEncoding().getBytes(StandardCharsets.US_ASCII));
+        }
+        if (event.correlationId() != null) {
+            headers.add(TraceHeaders.CORRELATION_ID, event.correlationId().getBytes(StandardCharsets.US_ASCII));
+        }
+        headers.add(REPLAY_HEADER, job.getId().getBytes(StandardCharsets.US_ASCII));
+        return record;
+    }
+
+    private static void awaitAll(List<CompletableFuture<?>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        futures.clear();
+    }
+
+    private boolean limitReached(ArchiveReplayJob job, ArchiveReplayRequest request) {
+        return request.maxRecords() != null && job.getMatched() >= request.maxRecords();
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() <= MAX_RETAINED_JOBS) {
+            return;
+        }
+
+        jobs.values().removeIf(job -> jobs.size() > MAX_RETAINED_JOBS
+                && job.getStatus() != ArchiveReplayStatus.QUEUED
+                && job.getStatus() != ArchiveReplayStatus.RUNNING);
+    }
+}
@@ -0,0 +1,9 @@
+package com.eventify.orderservice.archive;
+
+public enum ArchiveReplayStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
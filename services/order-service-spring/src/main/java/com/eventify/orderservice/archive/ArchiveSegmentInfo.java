@@ -0,0 +1,16 @@
+package com.eventify.orderservice.archive;
+
+import java.time.Instant;
+
+/** A segment as listed by {@code GET /orders/archive/segments}; the sentAt bounds are null for an empty segment. */
+public record ArchiveSegmentInfo(
+        int shard,
+        String file,
+        Instant bucketStart,
+        long bytes,
+        int blocks,
+        long events,
+        Instant minSentAt,
+        Instant maxSentAt
+) {
+}
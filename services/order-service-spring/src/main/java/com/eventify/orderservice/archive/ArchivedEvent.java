@@ -0,0 +1,35 @@
+package com.eventify.orderservice.archive;
+
+import com.eventify.orderservice.outbox.OutboxEventEntity;
+import java.time.Instant;
+
+/**
+ * A published outbox event as kept in the {@link SegmentArchive}. {@code payload} holds the bytes that went to Kafka,
+ * so a compressed event stays compressed and {@code contentEncoding} says how.
+ */
+public record ArchivedEvent(
+        String id,
+        String aggregateId,
+        String eventType,
+        String topic,
+        Instant createdAt,
+        Instant sentAt,
+        String correlationId,
+        String contentEncoding,
+        byte[] payload
+) {
+
+    public static ArchivedEvent of(OutboxEventEntity event) {
+        return new ArchivedEvent(
+                event.getId(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getTopic(),
+                event.getCreatedAt().toInstant(),
+                event.getSentAt().toInstant(),
+                event.getCorrelationId(),
+                event.getContentEncoding(),
+                event.getPayloadBytes()
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.eventify.orderservice.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * One entry of a segment's {@code .idx} file, describing one block: where it is, how many events it holds, the
+ * range of their sentAt times and a 2048-bit bloom filter of their aggregate ids. Sized for
+ * {@link SegmentArchive#MAX_BLOCK_EVENTS}; at 256 ids the false positive rate is about 3%.
+ *
+ * <p>Layout: {@code long offset | int length | int count | long minSentAt | long maxSentAt | long[32] bloom}.
+ */
+record BlockIndexEntry(long offset, int length, int count, long minSentAt, long maxSentAt, long[] bloom) {
+
+    static final int BLOOM_LONGS = 32;
+    static final int BYTES = 32 + BLOOM_LONGS * Long.BYTES;
+
+    private static final int BLOOM_BITS = BLOOM_LONGS * Long.SIZE;
+    private static final int HASHES = 3;
+
+    static BlockIndexEntry of(long offset, int length, List<ArchivedEvent> events) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long[] bloom = new long[BLOOM_LONGS];
+        for (ArchivedEvent event : events) {
+            long sentAt = event.sentAt().toEpochMilli();
+            min = Math.min(min, sentAt);
+            max = Math.max(max, sentAt);
+            long hash = fnv1a(event.aggregateId());
+            for (int i = 0; i < HASHES; i++) {
+                int bit = bit(hash, i);
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new BlockIndexEntry(offset, length, events.size(), min, max, bloom);
+    }
+
+    static BlockIndexEntry read(ByteBuffer buffer, int position) {
+        long[] bloom = new long[BLOOM_LONGS];
+        for (int i = 0; i < BLOOM_LONGS; i++) {
+            bloom[i] = buffer.getLong(position + 32 + i * Long.BYTES);
+        }
+        return new BlockIndexEntry(buffer.getLong(position), buffer.getInt(position + 8), buffer.getInt(position + 12),
+                buffer.getLong(position + 16), buffer.getLong(position + 24), bloom);
+    }
+
+    ByteBuffer toBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES)
+                .putLong(offset)
+                .putInt(length)
+                .putInt(count)
+                .putLong(minSentAt)
+                .putLong(maxSentAt);
+        for (long word : bloom) {
+            buffer.putLong(word);
+        }
+        return buffer.flip();
+    }
+
+    /** Offset just past this block in the data file. */
+    long end() {
+        return offset + SegmentArchive.BLOCK_HEADER_BYTES + length;
+    }
+
+    boolean overlaps(long fromMs, long toMs) {
+        return maxSentAt >= fromMs && minSentAt <= toMs;
+    }
+
+    boolean mightContain(String aggregateId) {
+        long hash = fnv1a(aggregateId);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = bit(hash, i);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Kirsch-Mitzenmacher double hashing over the two halves of one 64-bit hash. */
+    private static int bit(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + i * h2, BLOOM_BITS);
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
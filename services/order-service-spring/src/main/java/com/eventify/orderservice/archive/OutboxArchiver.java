@@ -0,0 +1,144 @@
+package com.eventify.orderservice.archive;
+
+import com.eventify.orderservice.outbox.OutboxEventEntity;
+import com.eventify.orderservice.outbox.OutboxEventRepository;
+import com.eventify.orderservice.outbox.OutboxStatus;
+import com.eventify.orderservice.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves SENT outbox rows into the {@link SegmentArchive}, one worker per shard like {@link
+ * com.eventify.orderservice.outbox.OutboxRelay}. Each batch is split at bucket boundaries; every run is appended
+ * as one block and only then deleted from the outbox, so a row is always in the table, the archive, or both.
+ *
+ * <p>Rows are archived exactly once. The only rows that can be in both places are those of the shard's last block,
+ * when the process died between append and delete; their ids are read back on start and deleted first.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox-archive.enabled", havingValue = "true")
+public class OutboxArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxArchiver.class);
+
+    private final SegmentArchive archive;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ShardRouter shardRouter;
+    private final ArchiveProperties properties;
+    private final ScheduledExecutorService workers;
+    private final List<List<String>> unconfirmed = new ArrayList<>();
+
+    public OutboxArchiver(SegmentArchive archive,
+                          OutboxEventRepository outboxEventRepository,
+                          ShardRouter shardRouter,
+                          ArchiveProperties properties) {
+        this.archive = archive;
+        this.outboxEventRepository = outboxEventRepository;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newScheduledThreadPool(shardRouter.shardCount(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-archiver-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        recover();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            workers.scheduleWithFixedDelay(() -> archiveShard(target), 0, properties.intervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /** Marks each shard's last archived block as possibly still in the outbox. */
+    void recover() throws IOException {
+        unconfirmed.clear();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            unconfirmed.add(ids(archive.lastBlock(shard)));
+        }
+    }
+
+    /** Archives everything on the shard that has been SENT for at least {@code min-age}; returns the rows moved. */
+    int archiveShard(int shard) {
+        int archived = 0;
+        try {
+            List<String> pending = unconfirmed.get(shard);
+            if (!pending.isEmpty()) {
+                delete(shard, pending);
+                unconfirmed.set(shard, List.of());
+            }
+
+            OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.minAge());
+            List<OutboxEventEntity> batch;
+            do {
+                batch = shardRouter.onShard(shard, () -> outboxEventRepository.findByStatusAndSentAtBeforeOrderBySentAtAscIdAsc(
+                        OutboxStatus.SENT, cutoff, Limit.of(properties.batchSize())));
+                for (List<ArchivedEvent> run : splitByBucket(batch)) {
+                    archive.appendBlock(shard, run);
+                    List<String> ids = ids(run);
+                    unconfirmed.set(shard, ids);
+                    delete(shard, ids);
+                    unconfirmed.set(shard, List.of());
+                    archived += run.size();
+                }
+            } while (batch.size() == properties.batchSize() && !Thread.currentThread().isInterrupted());
+
+            if (archived > 0) {
+                log.info("Archived {} outbox events from shard {}", archived, shard);
+            }
+        } catch (Exception ex) {
+            log.error("Outbox archiving failed for shard {} after {} events", shard, archived, ex);
+        }
+        return archived;
+    }
+
+    private List<List<ArchivedEvent>> splitByBucket(List<OutboxEventEntity> batch) {
+        List<List<ArchivedEvent>> runs = new ArrayList<>();
+        List<ArchivedEvent> run = new ArrayList<>();
+        long bucket = Long.MIN_VALUE;
+        for (OutboxEventEntity entity : batch) {
+            ArchivedEvent event = ArchivedEvent.of(entity);
+            long eventBucket = archive.bucketOf(event.sentAt().toEpochMilli());
+            if (eventBucket != bucket && !run.isEmpty()) {
+                runs.add(run);
+                run = new ArrayList<>();
+            }
+            bucket = eventBucket;
+            run.add(event);
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    private void delete(int shard, List<String> ids) {
+        shardRouter.runOnShard(shard, () -> outboxEventRepository.deleteAllByIdInBatch(ids));
+    }
+
+    private static List<String> ids(List<ArchivedEvent> events) {
+        return events.stream().map(ArchivedEvent::id).toList();
+    }
+}
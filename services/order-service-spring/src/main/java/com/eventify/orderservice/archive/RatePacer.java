@@ -0,0 +1,29 @@
+package com.eventify.orderservice.archive;
+
+import java.util.concurrent.TimeUnit;
+
+class RatePacer {
+
+    private final long intervalNanos;
+    private long nextSlotNanos;
+
+    RatePacer(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextSlotNanos > now) {
+            TimeUnit.NANOSECONDS.sleep(nextSlotNanos - now);
+        } else {
+            // Do not bank unused permits from idle periods into a burst.
+            nextSlotNanos = now;
+        }
+        nextSlotNanos += intervalNanos;
+    }
+}
@@ -0,0 +1,446 @@
+package com.eventify.orderservice.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only archive of published outbox events, one directory per shard. Each shard's events go into segment
+ * files named after the time bucket of their sentAt ({@code shard-0/20261019T1400Z-000.seg}); a segment is closed
+ * when the next bucket starts or it passes {@code maxSegmentBytes}, and is never written again.
+ *
+ * <p>A segment is a run of gzip-compressed blocks, {@code int length | int crc32c | gzip(events)}, and has a
+ * {@code .idx} file with one fixed-size {@link BlockIndexEntry} per block. A block is forced to disk before its
+ * index entry is written, and readers only follow the index, so a block without an entry does not exist. On open,
+ * the last segment of each shard is cut back to its last indexed block.
+ *
+ * <p>Appends synchronize on the archive. Reads go through {@link ArchiveCursor}, which memory-maps segments and
+ * never blocks appends.
+ */
+public final class SegmentArchive implements Closeable {
+
+    public static final int MAX_BLOCK_EVENTS = 256;
+
+    static final int BLOCK_HEADER_BYTES = 8;
+
+    private static final String SHARD_PREFIX = "shard-";
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final DateTimeFormatter BUCKET_NAME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmm'Z'").withZone(ZoneOffset.UTC);
+
+    private final Path dir;
+    private final long bucketMillis;
+    private final long maxSegmentBytes;
+    private final Map<Integer, List<Segment>> shards = new TreeMap<>();
+    private final Map<Integer, ActiveSegment> active = new HashMap<>();
+
+    private SegmentArchive(Path dir, long bucketMillis, long maxSegmentBytes) {
+        this.dir = dir;
+        this.bucketMillis = bucketMillis;
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    public static SegmentArchive open(Path dir, Duration bucket, long maxSegmentBytes) throws IOException {
+        if (bucket.toMinutes() < 1 || Duration.ofDays(1).toMillis() % bucket.toMillis() != 0) {
+            throw new IllegalArgumentException("bucket must be a whole number of minutes that divides a day");
+        }
+        if (maxSegmentBytes < 64 * 1024 || maxSegmentBytes > 1024L * 1024 * 1024) {
+            throw new IllegalArgumentException("maxSegmentBytes must be between 64 KiB and 1 GiB");
+        }
+
+        Files.createDirectories(dir);
+        SegmentArchive archive = new SegmentArchive(dir, bucket.toMillis(), maxSegmentBytes);
+        archive.recover();
+        return archive;
+    }
+
+    /**
+     * Appends {@code events} as one block to the shard's current segment and returns once block and index entry
+     * are on disk. The block goes into the segment of the bucket of its latest sentAt, or of the current segment
+     * if that bucket is older.
+     */
+    public synchronized void appendBlock(int shard, List<ArchivedEvent> events) throws IOException {
+        if (events.isEmpty() || events.size() > MAX_BLOCK_EVENTS) {
+            throw new IllegalArgumentException("A block holds 1 to " + MAX_BLOCK_EVENTS + " events, got " + events.size());
+        }
+
+        long latest = events.stream().mapToLong(event -> event.sentAt().toEpochMilli()).max().orElseThrow();
+        ActiveSegment segment = activeFor(shard, bucketOf(latest));
+
+        byte[] block = encode(events);
+        ByteBuffer data = ByteBuffer.allocate(BLOCK_HEADER_BYTES + block.length)
+                .putInt(block.length)
+                .putInt(checksum(ByteBuffer.wrap(block)))
+                .put(block)
+                .flip();
+        writeFully(segment.data, data, segment.dataEnd);
+        segment.data.force(false);
+
+        BlockIndexEntry entry = BlockIndexEntry.of(segment.dataEnd, block.length, events);
+        writeFully(segment.index, entry.toBuffer(), segment.indexEnd);
+        segment.index.force(false);
+
+        segment.dataEnd = entry.end();
+        segment.indexEnd += BlockIndexEntry.BYTES;
+    }
+
+    /** The events of the shard's most recently appended block, or an empty list if it has none. */
+    public synchronized List<ArchivedEvent> lastBlock(int shard) throws IOException {
+        List<Segment> segments = shards.getOrDefault(shard, List.of());
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            SegmentView view = view(segments.get(i));
+            List<BlockIndexEntry> entries = view.entries();
+            if (!entries.isEmpty()) {
+                BlockIndexEntry last = entries.get(entries.size() - 1);
+                try (FileChannel channel = FileChannel.open(view.segment().data(), StandardOpenOption.READ)) {
+                    return decode(channel.map(FileChannel.MapMode.READ_ONLY, last.offset(), BLOCK_HEADER_BYTES + last.length()), 0, last);
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Iterates the events of every shard with {@code from <= sentAt <= to}, optionally only those of one aggregate.
+     * Shards are merged by sentAt; within a shard, events come back in the order they were archived. Segments are
+     * not skipped by their bucket, since a late event may sit in a later one; blocks are skipped by their index.
+     */
+    public ArchiveCursor scan(Instant from, Instant to, String aggregateId) {
+        List<List<SegmentView>> views = new ArrayList<>();
+        synchronized (this) {
+            for (List<Segment> segments : shards.values()) {
+                views.add(segments.stream().map(this::view).toList());
+            }
+        }
+        return new ArchiveCursor(views, from.toEpochMilli(), to.toEpochMilli(), aggregateId);
+    }
+
+    public List<ArchiveSegmentInfo> segments() throws IOException {
+        List<SegmentView> views = new ArrayList<>();
+        synchronized (this) {
+            shards.values().forEach(segments -> segments.forEach(segment -> views.add(view(segment))));
+        }
+
+        List<ArchiveSegmentInfo> infos = new ArrayList<>();
+        for (SegmentView view : views) {
+            List<BlockIndexEntry> entries = view.entries();
+            long events = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (BlockIndexEntry entry : entries) {
+                events += entry.count();
+                min = Math.min(min, entry.minSentAt());
+                max = Math.max(max, entry.maxSentAt());
+            }
+            Segment segment = view.segment();
+            infos.add(new ArchiveSegmentInfo(segment.shard(), dir.relativize(segment.data()).toString(),
+                    Instant.ofEpochMilli(segment.bucketStart()), view.dataBytes(), entries.size(), events,
+                    entries.isEmpty() ? null : Instant.ofEpochMilli(min),
+                    entries.isEmpty() ? null : Instant.ofEpochMilli(max)));
+        }
+        return infos;
+    }
+
+    public long bucketOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis) * bucketMillis;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (ActiveSegment segment : active.values()) {
+            segment.close();
+        }
+        active.clear();
+    }
+
+    static List<ArchivedEvent> decode(ByteBuffer buffer, int position, BlockIndexEntry entry) throws IOException {
+        ByteBuffer block = buffer.slice(position + BLOCK_HEADER_BYTES, entry.length());
+        if (buffer.getInt(position) != entry.length() || buffer.getInt(position + 4) != checksum(block.duplicate())) {
+            throw new IOException("Archive block at offset " + entry.offset() + " is corrupt");
+        }
+
+        List<ArchivedEvent> events = new ArrayList<>(entry.count());
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferInputStream(block)))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                String aggregateId = in.readUTF();
+                String eventType = in.readUTF();
+                String topic = in.readUTF();
+                Instant createdAt = Instant.ofEpochMilli(in.readLong());
+                Instant sentAt = Instant.ofEpochMilli(in.readLong());
+                String correlationId = readOptional(in);
+                String contentEncoding = readOptional(in);
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                events.add(new ArchivedEvent(id, aggregateId, eventType, topic, createdAt, sentAt, correlationId,
+                        contentEncoding, payload));
+            }
+        }
+        return events;
+    }
+
+    private static byte[] encode(List<ArchivedEvent> events) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(events.size());
+            for (ArchivedEvent event : events) {
+                out.writeUTF(event.id());
+                out.writeUTF(event.aggregateId());
+                out.writeUTF(event.eventType());
+                out.writeUTF(event.topic());
+                out.writeLong(event.createdAt().toEpochMilli());
+                out.writeLong(event.sentAt().toEpochMilli());
+                writeOptional(out, event.correlationId());
+                writeOptional(out, event.contentEncoding());
+                out.writeInt(event.payload().length);
+                out.write(event.payload());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private ActiveSegment activeFor(int shard, long bucket) throws IOException {
+        List<Segment> segments = shards.computeIfAbsent(shard, ignored -> new ArrayList<>());
+        ActiveSegment current = active.get(shard);
+        Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+        Segment next = null;
+        if (last == null) {
+            next = new Segment(shard, bucket, 0, dataPath(shard, bucket, 0), indexPath(shard, bucket, 0));
+        } else if (bucket > last.bucketStart()) {
+            next = new Segment(shard, bucket, 0, dataPath(shard, bucket, 0), indexPath(shard, bucket, 0));
+        } else if ((current != null ? current.dataEnd : Files.size(last.data())) >= maxSegmentBytes) {
+            int part = last.part() + 1;
+            next = new Segment(shard, last.bucketStart(), part, dataPath(shard, last.bucketStart(), part),
+                    indexPath(shard, last.bucketStart(), part));
+        }
+
+        if (next != null) {
+            if (current != null) {
+                current.close();
+            }
+            Files.createDirectories(next.data().getParent());
+            Files.createFile(next.data());
+            Files.createFile(next.index());
+            syncDirectory(next.data().getParent());
+            segments.add(next);
+            current = new ActiveSegment(next);
+            active.put(shard, current);
+        } else if (current == null) {
+            current = new ActiveSegment(last);
+            active.put(shard, current);
+        }
+        return current;
+    }
+
+    private SegmentView view(Segment segment) {
+        ActiveSegment writer = active.get(segment.shard());
+        if (writer != null && writer.segment == segment) {
+            return new SegmentView(segment, writer.indexEnd, writer.dataEnd);
+        }
+        try {
+            return new SegmentView(segment, Files.size(segment.index()), Files.size(segment.data()));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot stat archive segment " + segment.data(), ex);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> shardDirs;
+        try (Stream<Path> listing = Files.list(dir)) {
+            shardDirs = listing.filter(Files::isDirectory)
+                    .filter(path -> path.getFileName().toString().startsWith(SHARD_PREFIX))
+                    .toList();
+        }
+
+        for (Path shardDir : shardDirs) {
+            int shard = Integer.parseInt(shardDir.getFileName().toString().substring(SHARD_PREFIX.length()));
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(shardDir)) {
+                files = listing.filter(path -> path.getFileName().toString().endsWith(DATA_SUFFIX)).sorted().toList();
+            }
+
+            List<Segment> segments = new ArrayList<>();
+            for (Path data : files) {
+                String name = data.getFileName().toString();
+                String stem = name.substring(0, name.length() - DATA_SUFFIX.length());
+                int dash = stem.lastIndexOf('-');
+                long bucketStart = Instant.from(BUCKET_NAME.parse(stem.substring(0, dash))).toEpochMilli();
+                Path index = shardDir.resolve(stem + INDEX_SUFFIX);
+                if (!Files.exists(index)) {
+                    Files.createFile(index);
+                }
+                segments.add(new Segment(shard, bucketStart, Integer.parseInt(stem.substring(dash + 1)), data, index));
+            }
+            if (!segments.isEmpty()) {
+                truncateTail(segments.get(segments.size() - 1));
+            }
+            shards.put(shard, segments);
+        }
+    }
+
+    /** Cuts the index to whole, contiguous entries that point inside the data file, and the data to the last one. */
+    private static void truncateTail(Segment segment) throws IOException {
+        ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(segment.index()));
+        try (FileChannel data = FileChannel.open(segment.data(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(segment.index(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = 0;
+            int valid = 0;
+            while ((valid + 1) * BlockIndexEntry.BYTES <= entries.capacity()) {
+                BlockIndexEntry entry = BlockIndexEntry.read(entries, valid * BlockIndexEntry.BYTES);
+                if (entry.offset() != end || entry.end() > data.size()) {
+                    break;
+                }
+                end = entry.end();
+                valid++;
+            }
+
+            if (index.size() != (long) valid * BlockIndexEntry.BYTES) {
+                index.truncate((long) valid * BlockIndexEntry.BYTES);
+                index.force(true);
+            }
+            if (data.size() != end) {
+                data.truncate(end);
+                data.force(true);
+            }
+        }
+    }
+
+    private Path dataPath(int shard, long bucketStart, int part) {
+        return shardDir(shard).resolve(stem(bucketStart, part) + DATA_SUFFIX);
+    }
+
+    private Path indexPath(int shard, long bucketStart, int part) {
+        return shardDir(shard).resolve(stem(bucketStart, part) + INDEX_SUFFIX);
+    }
+
+    private Path shardDir(int shard) {
+        return dir.resolve(SHARD_PREFIX + shard);
+    }
+
+    private static String stem(long bucketStart, int part) {
+        return String.format("%s-%03d", BUCKET_NAME.format(Instant.ofEpochMilli(bucketStart)), part);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static int checksum(ByteBuffer block) {
+        CRC32C crc = new CRC32C();
+        crc.update(block);
+        return (int) crc.getValue();
+    }
+
+    private static void writeOptional(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    record Segment(int shard, long bucketStart, int part, Path data, Path index) {
+    }
+
+    /** A segment as of one moment: readers stop at these lengths even if the segment is still being appended to. */
+    record SegmentView(Segment segment, long indexBytes, long dataBytes) {
+
+        List<BlockIndexEntry> entries() throws IOException {
+            int count = (int) (indexBytes / BlockIndexEntry.BYTES);
+            if (count == 0) {
+                return List.of();
+            }
+            try (FileChannel channel = FileChannel.open(segment.index(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * BlockIndexEntry.BYTES);
+                List<BlockIndexEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(BlockIndexEntry.read(buffer, i * BlockIndexEntry.BYTES));
+                }
+                return entries;
+            }
+        }
+    }
+
+    private static final class ActiveSegment {
+
+        private final Segment segment;
+        private final FileChannel data;
+        private final FileChannel index;
+        private long dataEnd;
+        private long indexEnd;
+
+        private ActiveSegment(Segment segment) throws IOException {
+            this.segment = segment;
+            this.data = FileChannel.open(segment.data(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.index = FileChannel.open(segment.index(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.dataEnd = data.size();
+            this.indexEnd = index.size();
+        }
+
+        private void close() throws IOException {
+            data.close();
+            index.close();
+        }
+    }
+
+    /** Streams a slice of a mapped segment into {@link GZIPInputStream} without copying it to the heap first. */
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, n);
+            return n;
+        }
+    }
+}
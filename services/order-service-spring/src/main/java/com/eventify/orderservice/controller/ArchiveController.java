@@ -0,0 +1,66 @@
+package com.eventify.orderservice.controller;
+
+import com.eventify.orderservice.archive.ArchiveReplayJob;
+import com.eventify.orderservice.archive.ArchiveReplayRequest;
+import com.eventify.orderservice.archive.ArchiveReplayService;
+import com.eventify.orderservice.archive.ArchiveSegmentInfo;
+import com.eventify.orderservice.archive.SegmentArchive;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/orders/archive")
+@ConditionalOnProperty(name = "app.outbox-archive.enabled", havingValue = "true")
+public class ArchiveController {
+
+    private final SegmentArchive segmentArchive;
+    private final ArchiveReplayService archiveReplayService;
+
+    public ArchiveController(SegmentArchive segmentArchive, ArchiveReplayService archiveReplayService) {
+        this.segmentArchive = segmentArchive;
+        this.archiveReplayService = archiveReplayService;
+    }
+
+    @GetMapping("/segments")
+    public List<ArchiveSegmentInfo> segments() throws IOException {
+        return segmentArchive.segments();
+    }
+
+    @PostMapping("/replays")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ArchiveReplayJob start(@RequestBody ArchiveReplayRequest request) {
+        try {
+            return archiveReplayService.submit(request);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    @GetMapping("/replays")
+    public List<ArchiveReplayJob> list() {
+        return archiveReplayService.list();
+    }
+
+    @GetMapping("/replays/{jobId}")
+    public ArchiveReplayJob get(@PathVariable String jobId) {
+        return archiveReplayService.find(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown replay " + jobId));
+    }
+
+    @DeleteMapping("/replays/{jobId}")
+    public ArchiveReplayJob cancel(@PathVariable String jobId) {
+        return archiveReplayService.cancel(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown replay " + jobId));
+    }
+}
@@ -4,14 +4,15 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 
 public record CreateOrderRequest(
-        @NotBlank String customerId,
+        @NotBlank @Size(max = 255) String customerId,
         @NotEmpty List<@Valid Item> items
 ) {
     public record Item(
-            @NotBlank String sku,
+            @NotBlank @Size(max = 255) String sku,
             @Min(1) int quantity
     ) {}
 }
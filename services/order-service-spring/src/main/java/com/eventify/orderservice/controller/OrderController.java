@@ -1,20 +1,26 @@
 package com.eventify.orderservice.controller;
 
 import com.eventify.orderservice.service.OrderApplicationService;
+import com.eventify.orderservice.service.OrderIntakeResult;
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
 
     private static final String CORRELATION_HEADER = "X-Correlation-Id";
+    private static final String PRIORITY_HEADER = "X-Order-Priority";
 
     private final OrderApplicationService orderApplicationService;
 
@@ -22,12 +28,21 @@ public class OrderController {
         this.orderApplicationService = orderApplicationService;
     }
 
+    /** 201 once the order is stored; 202 when it was journaled during a database outage and is stored later. */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public CreateOrderResponse create(
+    public ResponseEntity<CreateOrderResponse> create(
             @Valid @RequestBody CreateOrderRequest request,
-            @RequestHeader(name = CORRELATION_HEADER, required = false) String correlationId
+            @RequestHeader(name = CORRELATION_HEADER, required = false) String correlationId,
+            @RequestHeader(name = PRIORITY_HEADER, required = false) String priority
     ) {
-        return orderApplicationService.createOrder(request, correlationId);
+        OffsetDateTime intakeAt = OffsetDateTime.now();
+        OrderIntakeResult result = orderApplicationService.createOrder(request, correlationId, priority, intakeAt);
+        return ResponseEntity.status(result.journaled() ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(result.response());
+    }
+
+    @GetMapping("/{orderId}")
+    public OrderResponse get(@PathVariable String orderId) {
+        return orderApplicationService.findOrder(orderId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Order " + orderId + " not found"));
     }
 }
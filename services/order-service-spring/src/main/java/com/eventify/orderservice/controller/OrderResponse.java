@@ -0,0 +1,15 @@
+package com.eventify.orderservice.controller;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record OrderResponse(
+        String orderId,
+        String customerId,
+        String status,
+        OffsetDateTime createdAt,
+        List<Item> items
+) {
+    public record Item(String sku, int quantity) {
+    }
+}
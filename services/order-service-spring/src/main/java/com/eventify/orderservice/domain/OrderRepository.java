@@ -1,6 +1,18 @@
 package com.eventify.orderservice.domain;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, String> {
+
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = :status WHERE o.id = :id AND o.status = 'CREATED'")
+    int finalizeStatus(@Param("id") String id, @Param("status") String status);
+
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
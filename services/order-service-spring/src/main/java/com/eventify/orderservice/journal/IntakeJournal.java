@@ -0,0 +1,335 @@
+package com.eventify.orderservice.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of memory-mapped, fixed-size segment files. Entries get consecutive sequence numbers; a
+ * checkpoint file records the highest sequence applied downstream, and segments wholly below it are deleted.
+ *
+ * <p>Entry layout: {@code int length | int crc32c(sequence, data) | long sequence | data}. The length is written
+ * last and segments are zero-filled, so a zero length marks the end of a segment. On open, the last segment is
+ * scanned and cut at the first entry that is incomplete, fails its checksum or breaks the sequence.
+ *
+ * <p>Every method synchronizes on the journal, so appends from request threads and reads by the drainer serialize.
+ */
+public final class IntakeJournal implements Closeable {
+
+    static final int HEADER_BYTES = 16;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT = "checkpoint";
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final SyncPolicy syncPolicy;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private long nextSequence;
+    private long checkpoint;
+    private int readSegment;
+    private int readOffset;
+    private boolean dirty;
+
+    private IntakeJournal(Path dir, int segmentBytes, SyncPolicy syncPolicy) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.syncPolicy = syncPolicy;
+    }
+
+    public static IntakeJournal open(Path dir, int segmentBytes, SyncPolicy syncPolicy) throws IOException {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("segmentBytes must be at least 4096");
+        }
+
+        Files.createDirectories(dir);
+        IntakeJournal journal = new IntakeJournal(dir, segmentBytes, syncPolicy);
+        journal.recover();
+        return journal;
+    }
+
+    /** Appends one entry and returns its sequence; with {@link SyncPolicy#ALWAYS} it is on disk on return. */
+    public synchronized long append(byte[] data) throws IOException {
+        int size = HEADER_BYTES + data.length;
+        Segment active = segments.get(segments.size() - 1);
+        if (size + Integer.BYTES > segmentBytes) {
+            throw new IllegalArgumentException("Journal entry of " + data.length + " bytes does not fit a segment");
+        }
+        if (active.end + size + Integer.BYTES > active.capacity()) {
+            active = rotate();
+        }
+
+        long sequence = nextSequence;
+        int offset = active.end;
+        MappedByteBuffer buffer = active.buffer;
+        buffer.putLong(offset + 8, sequence);
+        buffer.put(offset + HEADER_BYTES, data);
+        buffer.putInt(offset + 4, checksum(buffer, offset, data.length));
+        buffer.putInt(offset, data.length);
+
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            buffer.force(offset, size);
+        } else {
+            dirty = true;
+        }
+
+        active.end += size;
+        active.lastSequence = sequence;
+        nextSequence++;
+        return sequence;
+    }
+
+    /** Forces entries written since the last sync; the drainer calls this for {@link SyncPolicy#INTERVAL}. */
+    public synchronized void sync() {
+        if (dirty) {
+            segments.get(segments.size() - 1).buffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Returns up to {@code max} entries after the last one returned, skipping anything at or below the checkpoint.
+     * Call {@link #rewind()} to read again from the checkpoint after a failed drain.
+     */
+    public synchronized List<JournalEntry> read(int max) {
+        List<JournalEntry> entries = new ArrayList<>();
+        while (entries.size() < max && readSegment < segments.size()) {
+            Segment segment = segments.get(readSegment);
+            if (readOffset >= segment.end) {
+                if (readSegment == segments.size() - 1) {
+                    break;
+                }
+                readSegment++;
+                readOffset = 0;
+                continue;
+            }
+
+            int length = segment.buffer.getInt(readOffset);
+            long sequence = segment.buffer.getLong(readOffset + 8);
+            if (sequence > checkpoint) {
+                byte[] data = new byte[length];
+                segment.buffer.get(readOffset + HEADER_BYTES, data);
+                entries.add(new JournalEntry(sequence, data));
+            }
+            readOffset += HEADER_BYTES + length;
+        }
+        return entries;
+    }
+
+    public synchronized void rewind() {
+        readSegment = 0;
+        readOffset = 0;
+    }
+
+    /** Durably records that every entry up to {@code sequence} has been applied and drops segments it covers. */
+    public synchronized void checkpoint(long sequence) throws IOException {
+        if (sequence <= checkpoint) {
+            return;
+        }
+
+        Path tmp = dir.resolve(CHECKPOINT + ".tmp");
+        ByteBuffer content = ByteBuffer.allocate(12).putLong(sequence);
+        CRC32C crc = new CRC32C();
+        crc.update(content.array(), 0, 8);
+        content.putInt((int) crc.getValue()).flip();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, dir.resolve(CHECKPOINT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+        checkpoint = sequence;
+
+        while (segments.size() > 1 && segments.get(1).baseSequence - 1 <= checkpoint) {
+            Segment applied = segments.remove(0);
+            applied.channel.close();
+            Files.deleteIfExists(applied.path);
+            if (readSegment > 0) {
+                readSegment--;
+            } else {
+                readOffset = 0;
+            }
+        }
+    }
+
+    public synchronized long checkpointed() {
+        return checkpoint;
+    }
+
+    /** Entries appended but not yet checkpointed. */
+    public synchronized long pending() {
+        return nextSequence - 1 - checkpoint;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments) {
+            if (syncPolicy != SyncPolicy.NONE) {
+                segment.buffer.force();
+            }
+            segment.channel.close();
+        }
+        segments.clear();
+    }
+
+    private void recover() throws IOException {
+        checkpoint = readCheckpoint();
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+
+        long expected = -1;
+        for (int i = 0; i < files.size(); i++) {
+            Path path = files.get(i);
+            String name = path.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            if (expected != -1 && base != expected) {
+                throw new IllegalStateException("Intake journal segment " + name + " does not follow sequence " + (expected - 1));
+            }
+
+            Segment segment = map(path, base, Files.size(path));
+            boolean last = i == files.size() - 1;
+            int end = scan(segment);
+            if (end < 0) {
+                if (!last) {
+                    throw new IllegalStateException("Intake journal segment " + name + " is corrupt before its end");
+                }
+                end = -end - 1;
+                for (int offset = end; offset < segment.capacity(); offset++) {
+                    segment.buffer.put(offset, (byte) 0);
+                }
+                segment.buffer.force();
+            }
+            segment.end = end;
+            segments.add(segment);
+            expected = segment.lastSequence + 1;
+        }
+
+        if (segments.isEmpty()) {
+            nextSequence = checkpoint + 1;
+            segments.add(create(nextSequence));
+        } else {
+            nextSequence = expected;
+            if (nextSequence <= checkpoint) {
+                throw new IllegalStateException("Intake journal checkpoint " + checkpoint + " is ahead of its last entry " + (nextSequence - 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the end of the valid entries, or {@code -(end + 1)} when the scan stopped at a torn or corrupt entry
+     * rather than at the zero terminator or the end of the file.
+     */
+    private static int scan(Segment segment) {
+        int offset = 0;
+        long expected = segment.baseSequence;
+        MappedByteBuffer buffer = segment.buffer;
+        while (offset + HEADER_BYTES <= segment.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                return offset;
+            }
+            if (length < 0 || offset + HEADER_BYTES + (long) length > segment.capacity()
+                    || buffer.getLong(offset + 8) != expected
+                    || buffer.getInt(offset + 4) != checksum(buffer, offset, length)) {
+                return -offset - 1;
+            }
+
+            segment.lastSequence = expected++;
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private Segment rotate() throws IOException {
+        Segment previous = segments.get(segments.size() - 1);
+        if (syncPolicy != SyncPolicy.NONE) {
+            previous.buffer.force();
+            dirty = false;
+        }
+        Segment next = create(nextSequence);
+        segments.add(next);
+        return next;
+    }
+
+    private Segment create(long baseSequence) throws IOException {
+        Path path = dir.resolve(String.format("%020d%s", baseSequence, SEGMENT_SUFFIX));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(segmentBytes);
+        }
+        syncDirectory();
+        return map(path, baseSequence, segmentBytes);
+    }
+
+    private static Segment map(Path path, long baseSequence, long size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new Segment(baseSequence, path, channel, buffer);
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = dir.resolve(CHECKPOINT);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(path));
+        CRC32C crc = new CRC32C();
+        crc.update(content.array(), 0, Math.min(8, content.capacity()));
+        if (content.capacity() != 12 || content.getInt(8) != (int) crc.getValue()) {
+            throw new IllegalStateException("Intake journal checkpoint " + path + " is corrupt");
+        }
+        return content.getLong(0);
+    }
+
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 8, 8 + length));
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+
+        private final long baseSequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int end;
+        private long lastSequence;
+
+        private Segment(long baseSequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.baseSequence = baseSequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.lastSequence = baseSequence - 1;
+        }
+
+        private int capacity() {
+            return buffer.capacity();
+        }
+    }
+}
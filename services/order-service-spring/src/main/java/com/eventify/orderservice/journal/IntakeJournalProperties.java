@@ -0,0 +1,32 @@
+package com.eventify.orderservice.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code app.intake-journal.*}. Off by default. The journal directory must be on local disk that outlives the
+ * process (a volume, not the container's writable layer), and only one instance may use it at a time.
+ */
+@ConfigurationProperties(prefix = "app.intake-journal")
+public record IntakeJournalProperties(
+        boolean enabled,
+        String dir,
+        Integer segmentBytes,
+        SyncPolicy sync,
+        Long syncIntervalMs,
+        Integer drainBatchSize,
+        Long drainIntervalMs,
+        Integer directTimeoutSeconds,
+        Integer drainTimeoutSeconds
+) {
+
+    public IntakeJournalProperties {
+        dir = dir == null ? "data/intake-journal" : dir;
+        segmentBytes = segmentBytes == null ? 16 * 1024 * 1024 : segmentBytes;
+        sync = sync == null ? SyncPolicy.ALWAYS : sync;
+        syncIntervalMs = syncIntervalMs == null ? 50L : syncIntervalMs;
+        drainBatchSize = drainBatchSize == null ? 200 : drainBatchSize;
+        drainIntervalMs = drainIntervalMs == null ? 1000L : drainIntervalMs;
+        directTimeoutSeconds = directTimeoutSeconds == null ? 2 : directTimeoutSeconds;
+        drainTimeoutSeconds = drainTimeoutSeconds == null ? 10 : drainTimeoutSeconds;
+    }
+}
@@ -0,0 +1,235 @@
+package com.eventify.orderservice.journal;
+
+import com.eventify.orderservice.service.OrderWriter;
+import com.eventify.orderservice.service.PlacedOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Keeps order intake up while the database is down. Orders are written directly until a write fails because the
+ * database is unreachable or timed out; from then on they are appended to the {@link IntakeJournal} and
+ * acknowledged with 202. Any other write failure is the order's own fault and is rethrown to the caller. A drain
+ * worker replays the journal in batches and, once it is empty, switches intake back to direct writes.
+ *
+ * <p>Replay is exactly-once per order: the checkpoint only advances after a batch commits, and a batch replayed
+ * after a crash skips order ids that are already stored. A batch that fails for any other reason is replayed one
+ * entry at a time, and an entry that still fails on its own is moved to {@code dead-letter/} so it cannot hold
+ * back the rest of the journal.
+ *
+ * <p>Each drain transaction is bounded by {@code drain-timeout-seconds} so an outage defers the drain instead of
+ * stalling it, and the {@code INTERVAL} sync runs on its own thread so journaled orders are flushed on time even
+ * while a drain is waiting on the database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.intake-journal.enabled", havingValue = "true")
+public class IntakeJournalService {
+
+    private static final Logger log = LoggerFactory.getLogger(IntakeJournalService.class);
+
+    static final String DEAD_LETTER_DIR = "dead-letter";
+
+    private final IntakeJournal journal;
+    private final Path deadLetterDir;
+    private final OrderWriter orderWriter;
+    private final ObjectMapper objectMapper;
+    private final IntakeJournalProperties properties;
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "intake-journal-drain");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "intake-journal-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean direct;
+
+    public IntakeJournalService(IntakeJournalProperties properties, OrderWriter orderWriter, ObjectMapper objectMapper)
+            throws IOException {
+        this.properties = properties;
+        this.orderWriter = orderWriter;
+        this.objectMapper = objectMapper;
+        this.journal = IntakeJournal.open(Path.of(properties.dir()), properties.segmentBytes(), properties.sync());
+        this.deadLetterDir = Path.of(properties.dir()).resolve(DEAD_LETTER_DIR);
+        this.direct = journal.pending() == 0;
+        if (!direct) {
+            log.warn("Intake journal has {} unapplied orders after restart; draining before direct writes resume",
+                    journal.pending());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.scheduleWithFixedDelay(this::drain, 0, properties.drainIntervalMs(), TimeUnit.MILLISECONDS);
+        if (properties.sync() == SyncPolicy.INTERVAL) {
+            syncer.scheduleWithFixedDelay(journal::sync, properties.syncIntervalMs(), properties.syncIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        worker.shutdownNow();
+        syncer.shutdownNow();
+        journal.close();
+    }
+
+    /** Stores the order and returns {@code false}, or journals it and returns {@code true}. */
+    public boolean submit(PlacedOrder order) {
+        if (direct) {
+            try {
+                orderWriter.write(order, properties.directTimeoutSeconds());
+                return false;
+            } catch (RuntimeException ex) {
+                if (!isUnavailable(ex)) {
+                    throw ex;
+                }
+                if (switchToJournal()) {
+                    log.warn("Order write failed; journaling intake until the database recovers: {}", ex.getMessage());
+                }
+            }
+        }
+
+        try {
+            journal.append(objectMapper.writeValueAsBytes(order));
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to journal order " + order.orderId(), ex);
+        }
+    }
+
+    public long pending() {
+        return journal.pending();
+    }
+
+    void drain() {
+        try {
+            List<JournalEntry> batch;
+            while (!(batch = journal.read(properties.drainBatchSize())).isEmpty()) {
+                List<JournalEntry> entries = new ArrayList<>(batch.size());
+                List<PlacedOrder> orders = new ArrayList<>(batch.size());
+                for (JournalEntry entry : batch) {
+                    try {
+                        orders.add(objectMapper.readValue(entry.data(), PlacedOrder.class));
+                        entries.add(entry);
+                    } catch (IOException ex) {
+                        deadLetter(entry, "unreadable", ex);
+                    }
+                }
+
+                int inserted;
+                try {
+                    inserted = orderWriter.writeBatch(orders, properties.drainTimeoutSeconds());
+                } catch (RuntimeException ex) {
+                    if (isUnavailable(ex)) {
+                        throw ex;
+                    }
+                    log.warn("Intake journal batch of {} failed; replaying its entries one at a time: {}",
+                            orders.size(), ex.getMessage());
+                    inserted = writeEach(entries, orders);
+                }
+
+                long last = batch.get(batch.size() - 1).sequence();
+                journal.checkpoint(last);
+                log.info("Drained intake journal through sequence={} inserted={} pending={}", last, inserted, journal.pending());
+            }
+
+            if (!direct && journal.pending() == 0) {
+                direct = true;
+                log.info("Intake journal empty; order intake writes directly again");
+            }
+        } catch (RuntimeException ex) {
+            journal.rewind();
+            if (isUnavailable(ex)) {
+                log.warn("Intake journal drain deferred, database unavailable: {}", ex.getMessage());
+            } else {
+                log.error("Intake journal drain failed", ex);
+            }
+        } catch (Exception ex) {
+            journal.rewind();
+            log.error("Intake journal drain failed", ex);
+        }
+    }
+
+    /** Writes each order on its own, dead-lettering those that fail for a reason other than an outage. */
+    private int writeEach(List<JournalEntry> entries, List<PlacedOrder> orders) throws IOException {
+        int inserted = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            JournalEntry entry = entries.get(i);
+            try {
+                inserted += orderWriter.writeBatch(List.of(orders.get(i)), properties.drainTimeoutSeconds());
+            } catch (RuntimeException ex) {
+                if (isUnavailable(ex)) {
+                    journal.checkpoint(entry.sequence() - 1);
+                    throw ex;
+                }
+                deadLetter(entry, "order " + orders.get(i).orderId() + " was rejected", ex);
+            }
+        }
+        return inserted;
+    }
+
+    private void deadLetter(JournalEntry entry, String reason, Exception cause) throws IOException {
+        Files.createDirectories(deadLetterDir);
+        Path path = deadLetterDir.resolve(String.format("%020d.json", entry.sequence()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer content = ByteBuffer.wrap(entry.data());
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        log.error("Moved intake journal entry sequence={} to {}: {}", entry.sequence(), path, reason, cause);
+    }
+
+    /**
+     * True for failures that say nothing about the order itself: no connection, a dropped connection or a timeout.
+     * Those are worth journaling and retrying; a constraint violation or mapping error would fail every retry.
+     */
+    static boolean isUnavailable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransactionTimedOutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean switchToJournal() {
+        boolean wasDirect = direct;
+        direct = false;
+        return wasDirect;
+    }
+}
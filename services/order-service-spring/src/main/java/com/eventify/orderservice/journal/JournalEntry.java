@@ -0,0 +1,4 @@
+package com.eventify.orderservice.journal;
+
+public record JournalEntry(long sequence, byte[] data) {
+}
@@ -0,0 +1,11 @@
+package com.eventify.orderservice.journal;
+
+/** When an appended journal entry is forced to disk relative to acknowledging the order. */
+public enum SyncPolicy {
+    /** Force the entry before {@code append} returns. Survives power loss; one flush per order. */
+    ALWAYS,
+    /** Force every {@code app.intake-journal.sync-interval-ms}. Survives a process crash; power loss can drop the last interval. */
+    INTERVAL,
+    /** Leave write-back to the OS. Survives a process crash only. */
+    NONE
+}
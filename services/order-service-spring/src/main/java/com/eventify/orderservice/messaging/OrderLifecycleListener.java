@@ -0,0 +1,53 @@
+package com.eventify.orderservice.messaging;
+
+import com.eventify.orderservice.domain.OrderStatus;
+import com.eventify.orderservice.service.OrderApplicationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the orchestrator's final decision to the order row on whichever shard owns it. The orchestrator still
+ * updates {@code orders} in the shared database directly, which only reaches shard 0; this keeps every shard
+ * current.
+ */
+@Component
+public class OrderLifecycleListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderLifecycleListener.class);
+
+    private final OrderApplicationService orderApplicationService;
+    private final ObjectMapper objectMapper;
+
+    public OrderLifecycleListener(OrderApplicationService orderApplicationService, ObjectMapper objectMapper) {
+        this.orderApplicationService = orderApplicationService;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${app.kafka.lifecycle-topic:order.lifecycle.events}")
+    public void onLifecycleEvent(String rawEvent) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(rawEvent);
+        } catch (Exception ex) {
+            log.warn("Ignoring malformed lifecycle event", ex);
+            return;
+        }
+
+        OrderStatus status = switch (event.path("eventType").asText()) {
+            case "OrderConfirmed" -> OrderStatus.CONFIRMED;
+            case "OrderCancelled" -> OrderStatus.CANCELLED;
+            default -> null;
+        };
+        String orderId = event.path("payload").path("orderId").asText(null);
+        if (status == null || orderId == null || orderId.isBlank()) {
+            return;
+        }
+
+        boolean updated = orderApplicationService.finalizeOrder(orderId, status);
+        log.info("Lifecycle event applied orderId={} status={} updated={}", orderId, status, updated);
+    }
+}
@@ -0,0 +1,71 @@
+package com.eventify.orderservice.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deficit round-robin over the outbox priority lanes. A lane earns its weight in credits each time the round
+ * reaches it and spends one credit per event. The round position and any unspent credits carry over to the next
+ * batch, so a fully backlogged relay publishes exactly in proportion to the weights. A lane that runs dry
+ * forfeits its credits, and its share goes to the other lanes. Within a lane, events keep their created-at order.
+ *
+ * <p>Create one instance per shard worker. It is not thread-safe.
+ */
+public final class LaneScheduler {
+
+    private static final OutboxPriority[] LANES = OutboxPriority.values();
+
+    private final int[] weights = new int[LANES.length];
+    private final int[] deficits = new int[LANES.length];
+    private int cursor;
+    private boolean resuming;
+
+    public LaneScheduler(Map<OutboxPriority, Integer> weights) {
+        for (OutboxPriority lane : LANES) {
+            int weight = weights.getOrDefault(lane, 0);
+            if (weight < 1) {
+                throw new IllegalArgumentException("Lane " + lane + " needs a weight of at least 1");
+            }
+            this.weights[lane.ordinal()] = weight;
+        }
+    }
+
+    /** Picks up to {@code batchSize} events from the heads of the lanes, given oldest first per lane. */
+    public <T> List<T> select(Map<OutboxPriority, List<T>> heads, int batchSize) {
+        int[] taken = new int[LANES.length];
+        List<T> selected = new ArrayList<>(batchSize);
+        int idleLanes = 0;
+        while (selected.size() < batchSize && idleLanes < LANES.length) {
+            List<T> queue = heads.getOrDefault(LANES[cursor], List.of());
+            if (taken[cursor] >= queue.size()) {
+                deficits[cursor] = 0;
+                resuming = false;
+                idleLanes++;
+                cursor = (cursor + 1) % LANES.length;
+                continue;
+            }
+
+            idleLanes = 0;
+            if (!resuming) {
+                deficits[cursor] += weights[cursor];
+            }
+            while (deficits[cursor] > 0 && taken[cursor] < queue.size() && selected.size() < batchSize) {
+                selected.add(queue.get(taken[cursor]++));
+                deficits[cursor]--;
+            }
+
+            if (deficits[cursor] > 0 && taken[cursor] < queue.size()) {
+                // The batch filled up mid-turn; this lane spends the rest of its credits first next time.
+                resuming = true;
+                break;
+            }
+            resuming = false;
+            if (taken[cursor] >= queue.size()) {
+                deficits[cursor] = 0;
+            }
+            cursor = (cursor + 1) % LANES.length;
+        }
+        return selected;
+    }
+}
@@ -5,11 +5,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_lane", columnList = "status, priority, created_at"),
+        @Index(name = "idx_outbox_sent", columnList = "status, sent_at")
+})
 public class OutboxEventEntity {
 
     @Id
@@ -24,9 +29,16 @@ public class OutboxEventEntity {
     @Column(nullable = false)
     private String topic;
 
+    /** Plain JSON; empty when the event is stored in {@code payload_compressed}. */
     @Column(nullable = false, columnDefinition = "text")
     private String payload;
 
+    @Column(name = "payload_compressed", columnDefinition = "bytea")
+    private byte[] payloadCompressed;
+
+    @Column(name = "content_encoding", length = 16)
+    private String contentEncoding;
+
     @Column(nullable = false)
     private OffsetDateTime createdAt;
 
@@ -34,9 +46,20 @@ public class OutboxEventEntity {
     @Column(nullable = false)
     private OutboxStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(16) default 'INTERACTIVE' not null")
+    private OutboxPriority priority = OutboxPriority.INTERACTIVE;
+
     @Column(name = "sent_at")
     private OffsetDateTime sentAt;
 
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    /** When the order reached the API; set only for traced (sampled) orders. */
+    @Column(name = "intake_at")
+    private OffsetDateTime intakeAt;
+
     protected OutboxEventEntity() {
     }
 
@@ -50,6 +73,19 @@ public class OutboxEventEntity {
         this.status = OutboxStatus.PENDING;
     }
 
+    public OutboxEventEntity(String id,
+                             String aggregateId,
+                             String eventType,
+                             String topic,
+                             String payload,
+                             OffsetDateTime createdAt,
+                             String correlationId,
+                             OffsetDateTime intakeAt) {
+        this(id, aggregateId, eventType, topic, payload, createdAt);
+        this.correlationId = correlationId;
+        this.intakeAt = intakeAt;
+    }
+
     public String getId() {
         return id;
     }
@@ -70,6 +106,41 @@ public class OutboxEventEntity {
         return payload;
     }
 
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public OffsetDateTime getIntakeAt() {
+        return intakeAt;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    /** The bytes to publish: the stored compressed body, or the JSON as UTF-8. */
+    public byte[] getPayloadBytes() {
+        return payloadCompressed != null ? payloadCompressed : payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void storeCompressed(byte[] body, String encoding) {
+        this.payload = "";
+        this.payloadCompressed = body;
+        this.contentEncoding = encoding;
+    }
+
+    public OutboxPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(OutboxPriority priority) {
+        this.priority = priority == null ? OutboxPriority.INTERACTIVE : priority;
+    }
+
     public OutboxStatus getStatus() {
         return status;
     }
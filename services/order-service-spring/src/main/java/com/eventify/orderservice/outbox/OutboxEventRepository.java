@@ -1,9 +1,13 @@
 package com.eventify.orderservice.outbox;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, String> {
 
-    List<OutboxEventEntity> findTop50ByStatusOrderByCreatedAtAsc(OutboxStatus status);
+    List<OutboxEventEntity> findByStatusAndPriorityOrderByCreatedAtAsc(OutboxStatus status, OutboxPriority priority, Limit limit);
+
+    List<OutboxEventEntity> findByStatusAndSentAtBeforeOrderBySentAtAscIdAsc(OutboxStatus status, OffsetDateTime sentBefore, Limit limit);
 }
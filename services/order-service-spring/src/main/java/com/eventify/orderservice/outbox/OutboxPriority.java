@@ -0,0 +1,11 @@
+package com.eventify.orderservice.outbox;
+
+/**
+ * Relay lane of an outbox row, chosen at intake from the {@code X-Order-Priority} header. Every event of one
+ * aggregate must share a lane: ordering is only guaranteed within a lane.
+ */
+public enum OutboxPriority {
+    INTERACTIVE,
+    BULK,
+    BACKFILL
+}
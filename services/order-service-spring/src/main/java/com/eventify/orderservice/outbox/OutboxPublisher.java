@@ -1,11 +1,14 @@
 package com.eventify.orderservice.outbox;
 
 import java.time.OffsetDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.kafka.core.KafkaOperations;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,22 +17,32 @@ public class OutboxPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
 
+    static final int BATCH_SIZE = 50;
+
     private final OutboxEventRepository outboxEventRepository;
-    private final KafkaOperations<String, String> kafkaOperations;
+    private final KafkaOperations<String, byte[]> kafkaOperations;
 
-    public OutboxPublisher(OutboxEventRepository outboxEventRepository, KafkaOperations<String, String> kafkaOperations) {
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository, KafkaOperations<String, byte[]> kafkaOperations) {
         this.outboxEventRepository = outboxEventRepository;
         this.kafkaOperations = kafkaOperations;
     }
 
-    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:3000}")
+    /**
+     * Publishes one batch from the outbox of the shard bound to the calling thread; see {@link OutboxRelay}. The
+     * batch is drawn from the priority lanes by {@code lanes}, so a bulk backlog cannot hold back interactive orders.
+     */
     @Transactional
-    public void publishPending() {
-        List<OutboxEventEntity> pendingEvents = outboxEventRepository.findTop50ByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING);
+    public void publishPending(LaneScheduler lanes) {
+        Map<OutboxPriority, List<OutboxEventEntity>> heads = new EnumMap<>(OutboxPriority.class);
+        for (OutboxPriority lane : OutboxPriority.values()) {
+            heads.put(lane, outboxEventRepository.findByStatusAndPriorityOrderByCreatedAtAsc(
+                    OutboxStatus.PENDING, lane, Limit.of(BATCH_SIZE)));
+        }
+        List<OutboxEventEntity> pendingEvents = lanes.select(heads, BATCH_SIZE);
 
         for (OutboxEventEntity event : pendingEvents) {
             try {
-                kafkaOperations.send(event.getTopic(), event.getAggregateId(), event.getPayload()).get();
+                kafkaOperations.send(toRecord(event)).get();
                 event.markSent(OffsetDateTime.now());
                 log.info("Published outbox event {} of type {}", event.getId(), event.getEventType());
             } catch (Exception ex) {
@@ -38,4 +51,20 @@ public class OutboxPublisher {
             }
         }
     }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxEventEntity event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(event.getTopic(), event.getAggregateId(), event.getPayloadBytes());
+        if (event.getContentEncoding() != null) {
+            TraceHeaders.put(record.headers(), PayloadCodec.CONTENT_ENCODING, event.getContentEncoding());
+        }
+        if (event.getCorrelationId() != null) {
+            TraceHeaders.put(record.headers(), TraceHeaders.CORRELATION_ID, event.getCorrelationId());
+        }
+        if (event.getIntakeAt() != null) {
+            TraceHeaders.putMillis(record.headers(), TraceHeaders.INTAKE_MS, event.getIntakeAt().toInstant().toEpochMilli());
+            TraceHeaders.putMillis(record.headers(), TraceHeaders.OUTBOX_MS, event.getCreatedAt().toInstant().toEpochMilli());
+            TraceHeaders.putMillis(record.headers(), TraceHeaders.PUBLISH_MS, System.currentTimeMillis());
+        }
+        return record;
+    }
 }
@@ -0,0 +1,85 @@
+package com.eventify.orderservice.outbox;
+
+import com.eventify.orderservice.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * One relay worker per shard, each polling only its own shard's outbox so shards drain independently. Each worker
+ * keeps its own {@link LaneScheduler}, weighted by {@code app.outbox.lanes.*-weight}.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxPublisher outboxPublisher;
+    private final ShardRouter shardRouter;
+    private final ScheduledExecutorService workers;
+
+    private final List<LaneScheduler> lanes = new ArrayList<>();
+
+    @Value("${app.outbox.poll-interval-ms:3000}")
+    private long pollIntervalMs;
+
+    @Value("${app.outbox.lanes.interactive-weight:8}")
+    private int interactiveWeight;
+
+    @Value("${app.outbox.lanes.bulk-weight:2}")
+    private int bulkWeight;
+
+    @Value("${app.outbox.lanes.backfill-weight:1}")
+    private int backfillWeight;
+
+    public OutboxRelay(OutboxPublisher outboxPublisher, ShardRouter shardRouter) {
+        this.outboxPublisher = outboxPublisher;
+        this.shardRouter = shardRouter;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newScheduledThreadPool(shardRouter.shardCount(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Map<OutboxPriority, Integer> weights = Map.of(
+                OutboxPriority.INTERACTIVE, interactiveWeight,
+                OutboxPriority.BULK, bulkWeight,
+                OutboxPriority.BACKFILL, backfillWeight
+        );
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            lanes.add(new LaneScheduler(weights));
+        }
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            workers.scheduleWithFixedDelay(() -> relay(target), 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    private void relay(int shard) {
+        try {
+            shardRouter.runOnShard(shard, () -> outboxPublisher.publishPending(lanes.get(shard)));
+        } catch (Exception ex) {
+            log.error("Outbox relay failed for shard {}", shard, ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventify.orderservice.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gzips outbox payloads at or above {@code app.outbox.compression.threshold-bytes}. The compressed bytes are
+ * stored as-is and published unchanged with a {@code content-encoding: gzip} header, so the relay never inflates
+ * them. Small payloads, and payloads that barely shrink, stay plain JSON.
+ */
+@Component
+public class PayloadCodec {
+
+    public static final String CONTENT_ENCODING = "content-encoding";
+    public static final String GZIP = "gzip";
+
+    private static final double MAX_RATIO = 0.9;
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    public PayloadCodec(@Value("${app.outbox.compression.enabled:true}") boolean enabled,
+                        @Value("${app.outbox.compression.threshold-bytes:4096}") int thresholdBytes) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /** Returns the gzip bytes of {@code json}, or {@code null} when it should be stored uncompressed. */
+    public byte[] compress(String json) {
+        if (!enabled) {
+            return null;
+        }
+
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return null;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length <= raw.length * MAX_RATIO ? compressed : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventify.orderservice.outbox;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Kafka headers that let consumers trace an order without parsing the payload. Timestamps are epoch milliseconds
+ * in ASCII and are only stamped on sampled orders; the correlation id is always present.
+ */
+public final class TraceHeaders {
+
+    public static final String CORRELATION_ID = "x-correlation-id";
+    public static final String INTAKE_MS = "x-trace-intake-ms";
+    public static final String OUTBOX_MS = "x-trace-outbox-ms";
+    public static final String PUBLISH_MS = "x-trace-publish-ms";
+
+    private TraceHeaders() {
+    }
+
+    static void put(Headers headers, String name, String value) {
+        headers.add(name, value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static void putMillis(Headers headers, String name, long epochMillis) {
+        put(headers, name, Long.toString(epochMillis));
+    }
+}
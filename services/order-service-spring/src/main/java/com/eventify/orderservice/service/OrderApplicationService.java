@@ -2,21 +2,27 @@ package com.eventify.orderservice.service;
 
 import com.eventify.orderservice.controller.CreateOrderRequest;
 import com.eventify.orderservice.controller.CreateOrderResponse;
-import com.eventify.orderservice.domain.OrderEntity;
-import com.eventify.orderservice.domain.OrderItemEntity;
+import com.eventify.orderservice.controller.OrderResponse;
 import com.eventify.orderservice.domain.OrderRepository;
 import com.eventify.orderservice.domain.OrderStatus;
-import com.eventify.orderservice.outbox.OutboxEventEntity;
-import com.eventify.orderservice.outbox.OutboxEventRepository;
+import com.eventify.orderservice.journal.IntakeJournalService;
+import com.eventify.orderservice.outbox.OutboxPriority;
+import com.eventify.orderservice.sharding.ShardRouter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
 import java.time.OffsetDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
@@ -24,21 +30,43 @@ import org.springframework.http.HttpStatus;
 public class OrderApplicationService {
 
     private final OrderRepository orderRepository;
-    private final OutboxEventRepository outboxEventRepository;
+    private final OrderWriter orderWriter;
+    private final ObjectProvider<IntakeJournalService> intakeJournal;
     private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.tracing.sample-rate:0.1}")
+    private double traceSampleRate;
 
     public OrderApplicationService(OrderRepository orderRepository,
-                                   OutboxEventRepository outboxEventRepository,
-                                   ObjectMapper objectMapper) {
+                                   OrderWriter orderWriter,
+                                   ObjectProvider<IntakeJournalService> intakeJournal,
+                                   ObjectMapper objectMapper,
+                                   ShardRouter shardRouter,
+                                   PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
-        this.outboxEventRepository = outboxEventRepository;
+        this.orderWriter = orderWriter;
+        this.intakeJournal = intakeJournal;
         this.objectMapper = objectMapper;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
-    @Transactional
-    public CreateOrderResponse createOrder(CreateOrderRequest request, String incomingCorrelationId) {
+    /**
+     * Writes the order and its OrderPlaced outbox row in one transaction on the shard that owns the new id. With
+     * the intake journal enabled the order may instead be journaled and written later; the result says which.
+     */
+    public OrderIntakeResult createOrder(CreateOrderRequest request,
+                                         String incomingCorrelationId,
+                                         String requestedPriority,
+                                         OffsetDateTime intakeAt) {
         String orderId = UUID.randomUUID().toString();
         String correlationId = resolveCorrelationId(incomingCorrelationId);
+        OutboxPriority priority = resolvePriority(requestedPriority);
 
         String eventPayload;
         try {
@@ -47,30 +75,49 @@ public class OrderApplicationService {
             throw new IllegalStateException("Failed to serialize order payload", e);
         }
 
-        OrderEntity order = new OrderEntity(
+        PlacedOrder order = new PlacedOrder(
                 orderId,
                 request.customerId(),
-                OrderStatus.CREATED.name(),
-                OffsetDateTime.now()
+                request.items(),
+                correlationId,
+                UUID.randomUUID().toString(),
+                eventPayload,
+                OffsetDateTime.now(),
+                ThreadLocalRandom.current().nextDouble() < traceSampleRate ? intakeAt : null,
+                priority
         );
 
-        for (CreateOrderRequest.Item item : request.items()) {
-            order.addItem(new OrderItemEntity(item.sku(), item.quantity()));
+        IntakeJournalService journal = intakeJournal.getIfAvailable();
+        boolean journaled = false;
+        if (journal == null) {
+            orderWriter.write(order);
+        } else {
+            journaled = journal.submit(order);
         }
 
-        orderRepository.save(order);
+        return new OrderIntakeResult(new CreateOrderResponse(orderId, OrderStatus.CREATED.name(), correlationId), journaled);
+    }
 
-        OutboxEventEntity outbox = new OutboxEventEntity(
-                UUID.randomUUID().toString(),
-                orderId,
-                "OrderPlaced",
-                "orders.events",
-                eventPayload,
-                OffsetDateTime.now()
-        );
-        outboxEventRepository.save(outbox);
+    public Optional<OrderResponse> findOrder(String orderId) {
+        return shardRouter.onShard(shardRouter.shardFor(orderId), () -> readOnlyTransaction.execute(status ->
+                orderRepository.findById(orderId).map(order -> new OrderResponse(
+                        order.getId(),
+                        order.getCustomerId(),
+                        order.getStatus(),
+                        order.getCreatedAt(),
+                        order.getItems().stream()
+                                .map(item -> new OrderResponse.Item(item.getSku(), item.getQuantity()))
+                                .toList()
+                ))
+        ));
+    }
 
-        return new CreateOrderResponse(orderId, OrderStatus.CREATED.name(), correlationId);
+    /** Moves a CREATED order to its final status on the owning shard; repeated calls are no-ops. */
+    public boolean finalizeOrder(String orderId, OrderStatus status) {
+        Integer updated = shardRouter.onShard(shardRouter.shardFor(orderId), () -> transactionTemplate.execute(tx ->
+                orderRepository.finalizeStatus(orderId, status.name())
+        ));
+        return updated != null && updated > 0;
     }
 
     private String resolveCorrelationId(String incomingCorrelationId) {
@@ -85,6 +132,18 @@ public class OrderApplicationService {
         }
     }
 
+    private OutboxPriority resolvePriority(String requestedPriority) {
+        if (requestedPriority == null || requestedPriority.isBlank()) {
+            return OutboxPriority.INTERACTIVE;
+        }
+
+        try {
+            return OutboxPriority.valueOf(requestedPriority.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "X-Order-Priority must be one of interactive, bulk, backfill");
+        }
+    }
+
     private String buildOrderPlacedEnvelope(String orderId,
                                             String correlationId,
                                             List<CreateOrderRequest.Item> items) throws JsonProcessingException {
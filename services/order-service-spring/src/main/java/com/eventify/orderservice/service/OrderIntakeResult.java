@@ -0,0 +1,7 @@
+package com.eventify.orderservice.service;
+
+import com.eventify.orderservice.controller.CreateOrderResponse;
+
+/** {@code journaled} is true when the order sits in the intake journal and is not yet in the database. */
+public record OrderIntakeResult(CreateOrderResponse response, boolean journaled) {
+}
@@ -0,0 +1,139 @@
+package com.eventify.orderservice.service;
+
+import com.eventify.orderservice.controller.CreateOrderRequest;
+import com.eventify.orderservice.domain.OrderEntity;
+import com.eventify.orderservice.domain.OrderItemEntity;
+import com.eventify.orderservice.domain.OrderRepository;
+import com.eventify.orderservice.domain.OrderStatus;
+import com.eventify.orderservice.outbox.OutboxEventEntity;
+import com.eventify.orderservice.outbox.OutboxEventRepository;
+import com.eventify.orderservice.outbox.PayloadCodec;
+import com.eventify.orderservice.sharding.ShardRouter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Inserts an order with its OrderPlaced outbox row, in one transaction on the shard that owns the order id. */
+@Component
+public class OrderWriter {
+
+    private final OrderRepository orderRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PayloadCodec payloadCodec;
+    private final ShardRouter shardRouter;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderWriter(OrderRepository orderRepository,
+                       OutboxEventRepository outboxEventRepository,
+                       PayloadCodec payloadCodec,
+                       ShardRouter shardRouter,
+                       PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.payloadCodec = payloadCodec;
+        this.shardRouter = shardRouter;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void write(PlacedOrder order) {
+        write(order, transactionTemplate);
+    }
+
+    /** Like {@link #write(PlacedOrder)}, but gives up once the transaction has run for {@code timeoutSeconds}. */
+    public void write(PlacedOrder order, int timeoutSeconds) {
+        TransactionTemplate bounded = new TransactionTemplate(transactionManager);
+        bounded.setTimeout(timeoutSeconds);
+        write(order, bounded);
+    }
+
+    /**
+     * Writes a batch with one transaction per shard. Orders whose id already exists are skipped, so a batch that
+     * was committed but not acknowledged can be written again safely. Returns the number of orders inserted.
+     */
+    public int writeBatch(List<PlacedOrder> orders) {
+        return writeBatch(orders, transactionTemplate);
+    }
+
+    /** Like {@link #writeBatch(List)}, but each shard's transaction gives up after {@code timeoutSeconds}. */
+    public int writeBatch(List<PlacedOrder> orders, int timeoutSeconds) {
+        TransactionTemplate bounded = new TransactionTemplate(transactionManager);
+        bounded.setTimeout(timeoutSeconds);
+        return writeBatch(orders, bounded);
+    }
+
+    private int writeBatch(List<PlacedOrder> orders, TransactionTemplate template) {
+        Map<Integer, List<PlacedOrder>> byShard = new TreeMap<>();
+        for (PlacedOrder order : orders) {
+            byShard.computeIfAbsent(shardRouter.shardFor(order.orderId()), shard -> new ArrayList<>()).add(order);
+        }
+
+        int inserted = 0;
+        for (Map.Entry<Integer, List<PlacedOrder>> shard : byShard.entrySet()) {
+            Integer written = shardRouter.onShard(shard.getKey(), () -> template.execute(status -> {
+                Set<String> existing = new HashSet<>(orderRepository.findExistingIds(
+                        shard.getValue().stream().map(PlacedOrder::orderId).toList()));
+                int count = 0;
+                for (PlacedOrder order : shard.getValue()) {
+                    if (existing.add(order.orderId())) {
+                        orderRepository.save(toOrder(order));
+                        outboxEventRepository.save(toOutbox(order));
+                        count++;
+                    }
+                }
+                return count;
+            }));
+            inserted += written == null ? 0 : written;
+        }
+        return inserted;
+    }
+
+    private void write(PlacedOrder order, TransactionTemplate template) {
+        OrderEntity entity = toOrder(order);
+        OutboxEventEntity outbox = toOutbox(order);
+        shardRouter.runOnShard(shardRouter.shardFor(order.orderId()), () -> template.executeWithoutResult(status -> {
+            orderRepository.save(entity);
+            outboxEventRepository.save(outbox);
+        }));
+    }
+
+    private static OrderEntity toOrder(PlacedOrder order) {
+        OrderEntity entity = new OrderEntity(
+                order.orderId(),
+                order.customerId(),
+                OrderStatus.CREATED.name(),
+                order.createdAt()
+        );
+
+        for (CreateOrderRequest.Item item : order.items()) {
+            entity.addItem(new OrderItemEntity(item.sku(), item.quantity()));
+        }
+        return entity;
+    }
+
+    private OutboxEventEntity toOutbox(PlacedOrder order) {
+        OutboxEventEntity outbox = new OutboxEventEntity(
+                order.outboxEventId(),
+                order.orderId(),
+                "OrderPlaced",
+                "orders.events",
+                order.eventPayload(),
+                order.createdAt(),
+                order.correlationId(),
+                order.intakeAt()
+        );
+        outbox.setPriority(order.priority());
+        byte[] compressed = payloadCodec.compress(order.eventPayload());
+        if (compressed != null) {
+            outbox.storeCompressed(compressed, PayloadCodec.GZIP);
+        }
+        return outbox;
+    }
+}
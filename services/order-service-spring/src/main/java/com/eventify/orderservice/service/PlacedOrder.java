@@ -0,0 +1,23 @@
+package com.eventify.orderservice.service;
+
+import com.eventify.orderservice.controller.CreateOrderRequest;
+import com.eventify.orderservice.outbox.OutboxPriority;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * A validated order with every id and the OrderPlaced envelope already fixed, so writing it twice (directly and
+ * again from the intake journal) produces the same rows.
+ */
+public record PlacedOrder(
+        String orderId,
+        String customerId,
+        List<CreateOrderRequest.Item> items,
+        String correlationId,
+        String outboxEventId,
+        String eventPayload,
+        OffsetDateTime createdAt,
+        OffsetDateTime intakeAt,
+        OutboxPriority priority
+) {
+}
@@ -0,0 +1,42 @@
+package com.eventify.orderservice.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Replaces the single Boot datasource once shards are configured. Every shard gets its own pool and the order
+ * schema from {@code db/order-shard-schema.sql}; Hibernate's ddl-auto only ever sees shard 0.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.shards[0].url")
+public class ShardDataSourceConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(ShardingProperties shardingProperties) {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("db/order-shard-schema.sql"));
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardingProperties.shards().size(); i++) {
+            ShardingProperties.Shard shard = shardingProperties.shards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            dataSource.setPoolName("order-shard-" + i);
+            dataSource.setMaximumPoolSize(shardingProperties.poolSize());
+            DatabasePopulatorUtils.execute(schema, dataSource);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+}
@@ -0,0 +1,75 @@
+package com.eventify.orderservice.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maps an order id to its shard and runs work against that shard. Ids are hashed with 64-bit FNV-1a and placed
+ * with jump consistent hashing, so the mapping is stable across restarts and languages.
+ */
+@Component
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(ShardingProperties shardingProperties) {
+        this.shardCount = shardingProperties.shardCount();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(String orderId) {
+        return jumpHash(fnv1a(orderId), shardCount);
+    }
+
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("No shard " + shard + "; configured shards: " + shardCount);
+        }
+
+        Integer previous = ShardContext.current();
+        if (!Objects.equals(previous, shard) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot switch to shard " + shard + " inside a transaction on shard " + previous);
+        }
+
+        ShardContext.set(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public void runOnShard(int shard, Runnable work) {
+        onShard(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** Lamping and Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm". */
+    static int jumpHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
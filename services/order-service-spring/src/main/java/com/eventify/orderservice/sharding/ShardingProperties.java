@@ -0,0 +1,25 @@
+package com.eventify.orderservice.sharding;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code app.sharding.shards} lists one datasource per shard. Left empty, the service runs on the single
+ * {@code spring.datasource} as before. The shard count must not change once orders exist: an order's shard is
+ * derived from its id and there is no rebalancing of existing rows.
+ */
+@ConfigurationProperties(prefix = "app.sharding")
+public record ShardingProperties(List<Shard> shards, Integer poolSize) {
+
+    public ShardingProperties {
+        shards = shards == null ? List.of() : List.copyOf(shards);
+        poolSize = poolSize == null ? 10 : poolSize;
+    }
+
+    public int shardCount() {
+        return Math.max(1, shards.size());
+    }
+
+    public record Shard(String url, String username, String password) {
+    }
+}
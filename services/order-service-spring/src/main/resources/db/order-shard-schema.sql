@@ -0,0 +1,39 @@
+-- Order schema for every shard when app.sharding.shards is set. Mirrors what Hibernate derives from the
+-- entities; keep it in step when an entity gains a column, and add the column below as well so shards created
+-- before it get it too: CREATE TABLE IF NOT EXISTS leaves an existing table as it is.
+CREATE TABLE IF NOT EXISTS orders (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    customer_id VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id VARCHAR(255) NOT NULL REFERENCES orders (id),
+    sku VARCHAR(255) NOT NULL,
+    quantity INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'SENT')),
+    sent_at TIMESTAMP(6) WITH TIME ZONE,
+    correlation_id VARCHAR(255),
+    intake_at TIMESTAMP(6) WITH TIME ZONE,
+    payload_compressed BYTEA,
+    content_encoding VARCHAR(16),
+    priority VARCHAR(16) DEFAULT 'INTERACTIVE' NOT NULL
+);
+
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS payload_compressed BYTEA;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS content_encoding VARCHAR(16);
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS priority VARCHAR(16) DEFAULT 'INTERACTIVE' NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_lane ON outbox (status, priority, created_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_sent ON outbox (status, sent_at);
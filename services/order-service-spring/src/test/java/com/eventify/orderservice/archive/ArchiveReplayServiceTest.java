@@ -0,0 +1,119 @@
+package com.eventify.orderservice.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.orderservice.outbox.PayloadCodec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveReplayServiceTest {
+
+    private static final Instant T0 = Instant.parse("2026-10-19T14:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private KafkaOperations<String, byte[]> kafkaOperations;
+
+    private SegmentArchive archive;
+    private ArchiveReplayService service;
+
+    @BeforeEach
+    void open() throws IOException {
+        archive = SegmentArchive.open(dir, Duration.ofHours(1), 1024 * 1024);
+        service = new ArchiveReplayService(archive, kafkaOperations);
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        service.shutdown();
+        archive.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaysOneAggregateOfTheRangeOntoTheRequestedTopic() throws Exception {
+        archive.appendBlock(0, List.of(event("e1", "order-1", 0, "gzip"), event("e2", "order-2", 1, null)));
+        archive.appendBlock(0, List.of(event("e3", "order-1", 2, null), event("e4", "order-1", 90, null)));
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        ArchiveReplayJob job = service.submit(new ArchiveReplayRequest(at(0), at(59), "order-1", "orders.replay", 1000.0, null));
+        awaitFinished(job);
+
+        assertEquals(ArchiveReplayStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getPublished());
+        ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaOperations, times(2)).send(sent.capture());
+        ProducerRecord<String, byte[]> first = sent.getAllValues().get(0);
+        assertEquals("orders.replay", first.topic());
+        assertEquals("order-1", first.key());
+        assertEquals("gzip", header(first, PayloadCodec.CONTENT_ENCODING));
+        assertEquals(job.getId(), header(first, ArchiveReplayService.REPLAY_HEADER));
+        assertEquals("e3", new String(sent.getAllValues().get(1).value(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsAnOpenEndedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(new ArchiveReplayRequest(at(0), null, null, "orders.replay", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(new ArchiveReplayRequest(at(10), at(0), null, "orders.replay", null, null)));
+    }
+
+    @Test
+    void refusesToReplayOntoALiveTopicOrWithoutATopic() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(new ArchiveReplayRequest(at(0), at(59), null, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(new ArchiveReplayRequest(at(0), at(59), null, "orders.events", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(new ArchiveReplayRequest(at(0), at(59), null, " order.lifecycle.events ", null, null)));
+        assertEquals(List.of(), service.list());
+    }
+
+    private static void awaitFinished(ArchiveReplayJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((job.getStatus() == ArchiveReplayStatus.QUEUED || job.getStatus() == ArchiveReplayStatus.RUNNING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.US_ASCII);
+    }
+
+    private static OffsetDateTime at(int minute) {
+        return OffsetDateTime.ofInstant(T0.plusSeconds(minute * 60L), ZoneOffset.UTC);
+    }
+
+    private static ArchivedEvent event(String id, String aggregateId, int minute, String contentEncoding) {
+        Instant sentAt = T0.plusSeconds(minute * 60L);
+        return new ArchivedEvent(id, aggregateId, "OrderPlaced", "orders.events", sentAt, sentAt, null,
+                contentEncoding, id.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventify.orderservice.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.orderservice.outbox.OutboxEventEntity;
+import com.eventify.orderservice.outbox.OutboxEventRepository;
+import com.eventify.orderservice.outbox.OutboxStatus;
+import com.eventify.orderservice.sharding.ShardRouter;
+import com.eventify.orderservice.sharding.ShardingProperties;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxArchiverTest {
+
+    private static final OffsetDateTime SENT_AT = OffsetDateTime.of(2026, 10, 19, 14, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private SegmentArchive archive;
+
+    @AfterEach
+    void close() throws IOException {
+        archive.close();
+    }
+
+    @Test
+    void deletesRowsOnlyAfterTheirBlockIsArchived() throws IOException {
+        OutboxArchiver archiver = archiver();
+        archiver.recover();
+        when(outboxEventRepository.findByStatusAndSentAtBeforeOrderBySentAtAscIdAsc(eq(OutboxStatus.SENT), any(), any()))
+                .thenReturn(List.of(sent("e1", 0), sent("e2", 30), sent("e3", 70)));
+
+        assertEquals(3, archiver.archiveShard(0));
+
+        InOrder order = inOrder(outboxEventRepository);
+        order.verify(outboxEventRepository).deleteAllByIdInBatch(List.of("e1", "e2"));
+        order.verify(outboxEventRepository).deleteAllByIdInBatch(List.of("e3"));
+        assertEquals(List.of(2L, 1L), archive.segments().stream().map(ArchiveSegmentInfo::events).toList());
+    }
+
+    @Test
+    void retriesAFailedDeleteWithoutArchivingTheRowsTwice() throws IOException {
+        OutboxArchiver archiver = archiver();
+        archiver.recover();
+        when(outboxEventRepository.findByStatusAndSentAtBeforeOrderBySentAtAscIdAsc(eq(OutboxStatus.SENT), any(), any()))
+                .thenReturn(List.of(sent("e1", 0)))
+                .thenReturn(List.of());
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .doNothing()
+                .when(outboxEventRepository).deleteAllByIdInBatch(List.of("e1"));
+
+        assertEquals(0, archiver.archiveShard(0));
+        assertEquals(0, archiver.archiveShard(0));
+
+        verify(outboxEventRepository, times(2)).deleteAllByIdInBatch(List.of("e1"));
+        assertEquals(1L, archive.segments().get(0).events());
+    }
+
+    @Test
+    void deletesTheLastArchivedBlockAgainAfterARestart() throws IOException {
+        archive = SegmentArchive.open(dir, Duration.ofHours(1), 1024 * 1024);
+        archive.appendBlock(0, List.of(ArchivedEvent.of(sent("e1", 0)), ArchivedEvent.of(sent("e2", 1))));
+        OutboxArchiver archiver = archiver();
+        when(outboxEventRepository.findByStatusAndSentAtBeforeOrderBySentAtAscIdAsc(eq(OutboxStatus.SENT), any(), any()))
+                .thenReturn(List.of());
+        doNothing().when(outboxEventRepository).deleteAllByIdInBatch(any());
+
+        archiver.recover();
+        archiver.archiveShard(0);
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of("e1", "e2"));
+    }
+
+    private OutboxArchiver archiver() throws IOException {
+        if (archive == null) {
+            archive = SegmentArchive.open(dir, Duration.ofHours(1), 1024 * 1024);
+        }
+        ArchiveProperties properties = new ArchiveProperties(true, dir.toString(), null, null, null, null, null);
+        return new OutboxArchiver(archive, outboxEventRepository, new ShardRouter(new ShardingProperties(null, null)), properties);
+    }
+
+    private static OutboxEventEntity sent(String id, int minute) {
+        OffsetDateTime sentAt = SENT_AT.plusMinutes(minute);
+        OutboxEventEntity entity = new OutboxEventEntity(id, "order-" + id, "OrderPlaced", "orders.events",
+                "{\"id\":\"" + id + "\"}", sentAt.minusSeconds(1));
+        entity.markSent(sentAt);
+        return entity;
+    }
+}
@@ -0,0 +1,121 @@
+package com.eventify.orderservice.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentArchiveTest {
+
+    private static final Instant T0 = Instant.parse("2026-10-19T14:00:00Z");
+    private static final long MAX_SEGMENT_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rollsSegmentsPerBucketAndReadsBackATimeRange() throws IOException {
+        try (SegmentArchive archive = SegmentArchive.open(dir, Duration.ofHours(1), MAX_SEGMENT_BYTES)) {
+            archive.appendBlock(0, List.of(event("e1", "order-1", 0), event("e2", "order-2", 10)));
+            archive.appendBlock(0, List.of(event("e3", "order-3", 20)));
+            archive.appendBlock(0, List.of(event("e4", "order-1", 65), event("e5", "order-4", 70)));
+
+            List<ArchiveSegmentInfo> segments = archive.segments();
+            assertEquals(List.of("shard-0/20261019T1400Z-000.seg", "shard-0/20261019T1500Z-000.seg"),
+                    segments.stream().map(ArchiveSegmentInfo::file).toList());
+            assertEquals(2, segments.get(0).blocks());
+            assertEquals(3, segments.get(0).events());
+
+            ArchiveCursor cursor = archive.scan(T0.plusSeconds(10 * 60), T0.plusSeconds(65 * 60), null);
+            List<ArchivedEvent> events = drain(cursor);
+            assertEquals(List.of("e2", "e3", "e4"), events.stream().map(ArchivedEvent::id).toList());
+            assertEquals("corr-e2", events.get(0).correlationId());
+            assertNull(events.get(0).contentEncoding());
+            assertArrayEquals("{\"id\":\"e2\"}".getBytes(StandardCharsets.UTF_8), events.get(0).payload());
+        }
+    }
+
+    @Test
+    void skipsBlocksWhoseBloomFilterRulesOutTheAggregate() throws IOException {
+        try (SegmentArchive archive = SegmentArchive.open(dir, Duration.ofHours(1), MAX_SEGMENT_BYTES)) {
+            for (int block = 0; block < 20; block++) {
+                List<ArchivedEvent> events = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    int n = block * 10 + i;
+                    events.add(event("e" + n, "order-" + n, block));
+                }
+                archive.appendBlock(0, events);
+            }
+
+            ArchiveCursor cursor = archive.scan(T0, T0.plusSeconds(3600), "order-42");
+            assertEquals(List.of("e42"), drain(cursor).stream().map(ArchivedEvent::id).toList());
+            assertTrue(cursor.blocksSkipped() >= 15, "skipped " + cursor.blocksSkipped());
+            assertEquals(20, cursor.blocksRead() + cursor.blocksSkipped());
+        }
+    }
+
+    @Test
+    void mergesShardsBySentAt() throws IOException {
+        try (SegmentArchive archive = SegmentArchive.open(dir, Duration.ofHours(1), MAX_SEGMENT_BYTES)) {
+            archive.appendBlock(0, List.of(event("a", "order-1", 1), event("c", "order-1", 3)));
+            archive.appendBlock(1, List.of(event("b", "order-2", 2), event("d", "order-2", 4)));
+
+            List<ArchivedEvent> events = drain(archive.scan(T0, T0.plusSeconds(3600), null));
+            assertEquals(List.of("a", "b", "c", "d"), events.stream().map(ArchivedEvent::id).toList());
+        }
+    }
+
+    @Test
+    void cutsATornTailOnOpenAndKeepsAppending() throws IOException {
+        try (SegmentArchive archive = SegmentArchive.open(dir, Duration.ofHours(1), MAX_SEGMENT_BYTES)) {
+            archive.appendBlock(0, List.of(event("e1", "order-1", 0)));
+            archive.appendBlock(0, List.of(event("e2", "order-2", 1)));
+        }
+
+        Path data;
+        Path index;
+        try (Stream<Path> files = Files.list(dir.resolve("shard-0"))) {
+            List<Path> sorted = files.sorted().toList();
+            index = sorted.get(0);
+            data = sorted.get(1);
+        }
+        long dataBytes = Files.size(data);
+        Files.write(data, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        Files.write(index, new byte[BlockIndexEntry.BYTES / 2], StandardOpenOption.APPEND);
+
+        try (SegmentArchive archive = SegmentArchive.open(dir, Duration.ofHours(1), MAX_SEGMENT_BYTES)) {
+            assertEquals(dataBytes, Files.size(data));
+            assertEquals(2L * BlockIndexEntry.BYTES, Files.size(index));
+            assertEquals(List.of("e2"), archive.lastBlock(0).stream().map(ArchivedEvent::id).toList());
+
+            archive.appendBlock(0, List.of(event("e3", "order-3", 2)));
+            List<ArchivedEvent> events = drain(archive.scan(T0, T0.plusSeconds(3600), null));
+            assertEquals(List.of("e1", "e2", "e3"), events.stream().map(ArchivedEvent::id).toList());
+        }
+    }
+
+    private static List<ArchivedEvent> drain(ArchiveCursor cursor) {
+        List<ArchivedEvent> events = new ArrayList<>();
+        cursor.forEachRemaining(events::add);
+        return events;
+    }
+
+    private static ArchivedEvent event(String id, String aggregateId, int minute) {
+        Instant sentAt = T0.plusSeconds(minute * 60L);
+        return new ArchivedEvent(id, aggregateId, "OrderPlaced", "orders.events", sentAt.minusSeconds(1), sentAt,
+                "corr-" + id, null, ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+package com.eventify.orderservice.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventify.orderservice.controller.CreateOrderRequest;
+import com.eventify.orderservice.outbox.OutboxPriority;
+import com.eventify.orderservice.service.OrderWriter;
+import com.eventify.orderservice.service.PlacedOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class IntakeJournalServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private OrderWriter orderWriter;
+
+    private IntakeJournalService service;
+
+    @AfterEach
+    void close() throws IOException {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void journalsWhileTheDatabaseIsDownAndDrainsBeforeWritingDirectlyAgain() throws IOException {
+        service = service();
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(orderWriter).write(any(), anyInt());
+
+        assertTrue(service.submit(order("order-1")));
+        assertTrue(service.submit(order("order-2")));
+        verify(orderWriter, times(1)).write(any(), anyInt());
+        assertEquals(2, service.pending());
+
+        when(orderWriter.writeBatch(any(), anyInt())).thenThrow(new DataAccessResourceFailureException("still down")).thenReturn(2);
+        service.drain();
+        assertEquals(2, service.pending());
+
+        service.drain();
+        assertEquals(0, service.pending());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PlacedOrder>> batches = ArgumentCaptor.forClass(List.class);
+        verify(orderWriter, times(2)).writeBatch(batches.capture(), eq(10));
+        assertEquals(List.of("order-1", "order-2"), batches.getValue().stream().map(PlacedOrder::orderId).toList());
+        assertEquals(OffsetDateTime.parse("2026-01-01T00:00Z").toInstant(), batches.getValue().get(0).createdAt().toInstant());
+        assertEquals(OutboxPriority.BULK, batches.getValue().get(0).priority());
+
+        doNothing().when(orderWriter).write(any(), anyInt());
+        assertFalse(service.submit(order("order-3")));
+    }
+
+    @Test
+    void replaysUnappliedOrdersAfterRestart() throws IOException {
+        service = service();
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(orderWriter).write(any(), anyInt());
+        service.submit(order("order-1"));
+        service.stop();
+
+        service = service();
+        assertEquals(1, service.pending());
+        service.submit(order("order-2"));
+        verify(orderWriter, times(1)).write(any(), anyInt());
+
+        service.drain();
+        verify(orderWriter).writeBatch(any(), anyInt());
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void writesDirectlyWhileTheDatabaseIsHealthy() throws IOException {
+        service = service();
+
+        assertFalse(service.submit(order("order-1")));
+        service.drain();
+
+        verify(orderWriter, never()).writeBatch(any(), anyInt());
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void rejectsAnOrderTheDatabaseRefusesInsteadOfJournalingIt() throws IOException {
+        service = service();
+        doThrow(new DataIntegrityViolationException("value too long")).doNothing().when(orderWriter).write(any(), anyInt());
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.submit(order("order-1")));
+        assertEquals(0, service.pending());
+        assertFalse(service.submit(order("order-2")));
+    }
+
+    @Test
+    void deadLettersAPoisonEntryAndDrainsTheRest() throws IOException {
+        service = service();
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(orderWriter).write(any(), anyInt());
+        service.submit(order("order-1"));
+        service.submit(order("order-2"));
+        service.submit(order("order-3"));
+        when(orderWriter.writeBatch(any(), anyInt())).thenAnswer(invocation -> {
+            List<PlacedOrder> orders = invocation.getArgument(0);
+            if (orders.stream().anyMatch(order -> order.orderId().equals("order-2"))) {
+                throw new DataIntegrityViolationException("value too long for type character varying(255)");
+            }
+            return orders.size();
+        });
+
+        service.drain();
+
+        assertEquals(0, service.pending());
+        verify(orderWriter).writeBatch(eq(List.of(order("order-1"))), anyInt());
+        verify(orderWriter).writeBatch(eq(List.of(order("order-3"))), anyInt());
+        Path deadLetter = dir.resolve(IntakeJournalService.DEAD_LETTER_DIR).resolve(String.format("%020d.json", 2));
+        assertEquals("order-2", new ObjectMapper().findAndRegisterModules()
+                .readValue(Files.readAllBytes(deadLetter), PlacedOrder.class).orderId());
+
+        doNothing().when(orderWriter).write(any(), anyInt());
+        assertFalse(service.submit(order("order-4")));
+    }
+
+    private IntakeJournalService service() throws IOException {
+        IntakeJournalProperties properties = new IntakeJournalProperties(
+                true, dir.toString(), 4096, SyncPolicy.ALWAYS, null, 100, null, null, null);
+        return new IntakeJournalService(properties, orderWriter, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static PlacedOrder order(String orderId) {
+        return new PlacedOrder(
+                orderId,
+                "customer-1",
+                List.of(new CreateOrderRequest.Item("SKU-1", 2)),
+                "corr-1",
+                "evt-" + orderId,
+                "{\"eventType\":\"OrderPlaced\"}",
+                OffsetDateTime.parse("2026-01-01T00:00Z"),
+                null,
+                OutboxPriority.BULK
+        );
+    }
+}
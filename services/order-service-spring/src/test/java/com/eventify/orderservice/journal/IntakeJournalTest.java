@@ -0,0 +1,113 @@
+package com.eventify.orderservice.journal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntakeJournalTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsEntriesInOrderAndResumesAfterCheckpointOnReopen() throws IOException {
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.ALWAYS)) {
+            for (int i = 1; i <= 5; i++) {
+                assertEquals(i, journal.append(bytes("order-" + i)));
+            }
+
+            List<JournalEntry> batch = journal.read(3);
+            assertEquals(List.of(1L, 2L, 3L), batch.stream().map(JournalEntry::sequence).toList());
+            assertArrayEquals(bytes("order-1"), batch.get(0).data());
+            journal.checkpoint(3);
+        }
+
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.ALWAYS)) {
+            assertEquals(2, journal.pending());
+            assertEquals(List.of(4L, 5L), journal.read(10).stream().map(JournalEntry::sequence).toList());
+            assertEquals(6, journal.append(bytes("order-6")));
+        }
+    }
+
+    @Test
+    void rewindReturnsUncheckpointedEntriesAgain() throws IOException {
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.NONE)) {
+            journal.append(bytes("a"));
+            journal.append(bytes("b"));
+
+            assertEquals(2, journal.read(10).size());
+            assertEquals(0, journal.read(10).size());
+
+            journal.rewind();
+            assertEquals(2, journal.read(10).size());
+        }
+    }
+
+    @Test
+    void rotatesSegmentsAndDeletesThoseBelowTheCheckpoint() throws IOException {
+        byte[] entry = new byte[1000];
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.INTERVAL)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(entry);
+            }
+            assertTrue(segmentCount() > 2);
+
+            assertEquals(10, journal.read(100).size());
+            journal.checkpoint(10);
+            assertEquals(1, segmentCount());
+        }
+
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.INTERVAL)) {
+            assertEquals(0, journal.pending());
+            assertEquals(11, journal.append(entry));
+        }
+    }
+
+    @Test
+    void dropsTornTailOnRecovery() throws IOException {
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.ALWAYS)) {
+            journal.append(bytes("kept"));
+            journal.append(bytes("torn"));
+        }
+
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(path -> path.toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+        int tornData = 2 * IntakeJournal.HEADER_BYTES + 4;
+        try (var channel = Files.newByteChannel(segment, StandardOpenOption.WRITE)) {
+            channel.position(tornData).write(ByteBuffer.wrap(bytes("XX")));
+        }
+
+        try (IntakeJournal journal = IntakeJournal.open(dir, SEGMENT_BYTES, SyncPolicy.ALWAYS)) {
+            assertEquals(1, journal.pending());
+            assertEquals(2, journal.append(bytes("next")));
+            List<JournalEntry> entries = journal.read(10);
+            assertArrayEquals(bytes("kept"), entries.get(0).data());
+            assertArrayEquals(bytes("next"), entries.get(1).data());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).count();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventify.orderservice.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LaneSchedulerTest {
+
+    private static final Map<OutboxPriority, Integer> WEIGHTS = Map.of(
+            OutboxPriority.INTERACTIVE, 8, OutboxPriority.BULK, 2, OutboxPriority.BACKFILL, 1);
+
+    @Test
+    void sharesBatchesByWeightWhileEveryLaneIsBacklogged() {
+        LaneScheduler scheduler = new LaneScheduler(WEIGHTS);
+        Map<OutboxPriority, Integer> published = new EnumMap<>(OutboxPriority.class);
+        for (int tick = 0; tick < 110; tick++) {
+            for (String event : scheduler.select(heads(50, 50, 50), 50)) {
+                published.merge(OutboxPriority.valueOf(event.substring(0, event.indexOf('-'))), 1, Integer::sum);
+            }
+        }
+
+        assertEquals(4000, published.get(OutboxPriority.INTERACTIVE));
+        assertEquals(1000, published.get(OutboxPriority.BULK));
+        assertEquals(500, published.get(OutboxPriority.BACKFILL));
+    }
+
+    @Test
+    void givesUnusedShareToOtherLanesAndKeepsLaneOrder() {
+        List<String> batch = new LaneScheduler(WEIGHTS).select(heads(3, 50, 0), 50);
+
+        assertEquals(50, batch.size());
+        assertEquals(List.of("INTERACTIVE-0", "INTERACTIVE-1", "INTERACTIVE-2", "BULK-0"), batch.subList(0, 4));
+        assertEquals("BULK-46", batch.get(49));
+    }
+
+    @Test
+    void interactiveOrdersAreNotQueuedBehindABulkBacklog() {
+        LaneScheduler scheduler = new LaneScheduler(WEIGHTS);
+        Deque<Integer> interactive = new ArrayDeque<>();
+        int bulkBacklog = 100_000;
+        int worstWaitTicks = 0;
+        for (int tick = 0; tick < 500; tick++) {
+            for (int i = 0; i < 10; i++) {
+                interactive.add(tick);
+            }
+
+            Map<OutboxPriority, List<Integer>> heads = new EnumMap<>(OutboxPriority.class);
+            heads.put(OutboxPriority.INTERACTIVE, new ArrayList<>(interactive).subList(0, Math.min(50, interactive.size())));
+            heads.put(OutboxPriority.BULK, bulkBacklog > 0 ? Collections.nCopies(50, -1) : List.of());
+            for (Integer enqueuedAt : scheduler.select(heads, 50)) {
+                if (enqueuedAt >= 0) {
+                    worstWaitTicks = Math.max(worstWaitTicks, tick - interactive.poll());
+                } else {
+                    bulkBacklog--;
+                }
+            }
+        }
+
+        assertEquals(0, worstWaitTicks);
+        assertTrue(bulkBacklog < 100_000 - 500 * 30, "bulk backlog must keep draining: " + bulkBacklog);
+    }
+
+    private static Map<OutboxPriority, List<String>> heads(int interactive, int bulk, int backfill) {
+        Map<OutboxPriority, List<String>> heads = new EnumMap<>(OutboxPriority.class);
+        heads.put(OutboxPriority.INTERACTIVE, events(OutboxPriority.INTERACTIVE, interactive));
+        heads.put(OutboxPriority.BULK, events(OutboxPriority.BULK, bulk));
+        heads.put(OutboxPriority.BACKFILL, events(OutboxPriority.BACKFILL, backfill));
+        return heads;
+    }
+
+    private static List<String> events(OutboxPriority lane, int count) {
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(lane + "-" + i);
+        }
+        return events;
+    }
+}
@@ -1,17 +1,26 @@
 package com.eventify.orderservice.outbox;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.kafka.core.KafkaOperations;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,7 +30,7 @@ class OutboxPublisherTest {
     private OutboxEventRepository outboxEventRepository;
 
     @Mock
-    private KafkaOperations<String, String> kafkaOperations;
+    private KafkaOperations<String, byte[]> kafkaOperations;
 
     @Test
     void publishPendingMarksOutboxRowAsSent() {
@@ -34,15 +43,77 @@ class OutboxPublisherTest {
                 OffsetDateTime.now()
         );
 
-        when(outboxEventRepository.findTop50ByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING)).thenReturn(List.of(event));
-        when(kafkaOperations.send("orders.events", "order-1", "{\"eventType\":\"OrderPlaced\"}"))
-                .thenReturn(CompletableFuture.completedFuture(null));
+        ProducerRecord<String, byte[]> record = publish(event);
 
-        OutboxPublisher publisher = new OutboxPublisher(outboxEventRepository, kafkaOperations);
-        publisher.publishPending();
-
-        verify(kafkaOperations).send("orders.events", "order-1", "{\"eventType\":\"OrderPlaced\"}");
+        assertEquals("orders.events", record.topic());
+        assertEquals("order-1", record.key());
+        assertEquals("{\"eventType\":\"OrderPlaced\"}", new String(record.value(), StandardCharsets.UTF_8));
+        assertNull(record.headers().lastHeader(TraceHeaders.INTAKE_MS));
+        assertNull(record.headers().lastHeader(PayloadCodec.CONTENT_ENCODING));
         assertEquals(OutboxStatus.SENT, event.getStatus());
         assertNotNull(event.getSentAt());
     }
+
+    @Test
+    void sampledOrderCarriesCorrelationIdAndHopTimestamps() {
+        OffsetDateTime intakeAt = OffsetDateTime.now().minusSeconds(1);
+        OffsetDateTime createdAt = intakeAt.plusNanos(5_000_000);
+        OutboxEventEntity event = new OutboxEventEntity(
+                "evt-1",
+                "order-1",
+                "OrderPlaced",
+                "orders.events",
+                "{}",
+                createdAt,
+                "corr-1",
+                intakeAt
+        );
+
+        ProducerRecord<String, byte[]> record = publish(event);
+
+        assertEquals("corr-1", header(record, TraceHeaders.CORRELATION_ID));
+        assertEquals(Long.toString(intakeAt.toInstant().toEpochMilli()), header(record, TraceHeaders.INTAKE_MS));
+        assertEquals(Long.toString(createdAt.toInstant().toEpochMilli()), header(record, TraceHeaders.OUTBOX_MS));
+        assertNotNull(header(record, TraceHeaders.PUBLISH_MS));
+    }
+
+    @Test
+    void compressedRowIsPublishedAsStoredWithContentEncodingHeader() {
+        OutboxEventEntity event = new OutboxEventEntity(
+                "evt-1",
+                "order-1",
+                "OrderPlaced",
+                "orders.events",
+                "{}",
+                OffsetDateTime.now()
+        );
+        byte[] body = {31, -117, 8, 0};
+        event.storeCompressed(body, PayloadCodec.GZIP);
+
+        ProducerRecord<String, byte[]> record = publish(event);
+
+        assertArrayEquals(body, record.value());
+        assertEquals("gzip", header(record, PayloadCodec.CONTENT_ENCODING));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> publish(OutboxEventEntity event) {
+        when(outboxEventRepository.findByStatusAndPriorityOrderByCreatedAtAsc(eq(OutboxStatus.PENDING), any(), any(Limit.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1) == event.getPriority() ? List.of(event) : List.of());
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        OutboxPublisher publisher = new OutboxPublisher(outboxEventRepository, kafkaOperations);
+        publisher.publishPending(new LaneScheduler(Map.of(
+                OutboxPriority.INTERACTIVE, 8, OutboxPriority.BULK, 2, OutboxPriority.BACKFILL, 1)));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaOperations).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        return record.headers().lastHeader(name) == null
+                ? null
+                : new String(record.headers().lastHeader(name).value(), StandardCharsets.US_ASCII);
+    }
 }
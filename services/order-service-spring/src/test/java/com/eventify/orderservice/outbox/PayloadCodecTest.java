@@ -0,0 +1,41 @@
+package com.eventify.orderservice.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class PayloadCodecTest {
+
+    private static String largeOrder(int items) {
+        StringBuilder json = new StringBuilder("{\"eventType\":\"OrderPlaced\",\"payload\":{\"items\":[");
+        for (int i = 0; i < items; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"sku\":\"SKU-").append(i).append("\",\"quantity\":1}");
+        }
+        return json.append("]}}").toString();
+    }
+
+    @Test
+    void compressesLargePayloadsRoundTrip() throws IOException {
+        String json = largeOrder(300);
+        byte[] compressed = new PayloadCodec(true, 4096).compress(json);
+
+        assertNotNull(compressed);
+        assertTrue(compressed.length < json.length() / 4);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void leavesSmallPayloadsAndDisabledCodecAlone() {
+        assertNull(new PayloadCodec(true, 4096).compress(largeOrder(2)));
+        assertNull(new PayloadCodec(false, 4096).compress(largeOrder(300)));
+    }
+}
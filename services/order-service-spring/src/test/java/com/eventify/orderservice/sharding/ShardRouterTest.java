@@ -0,0 +1,65 @@
+package com.eventify.orderservice.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ShardRouterTest {
+
+    @Test
+    void spreadsOrdersEvenlyAndStably() {
+        ShardRouter router = router(4);
+        int[] counts = new int[4];
+        for (int i = 0; i < 40_000; i++) {
+            String orderId = UUID.randomUUID().toString();
+            int shard = router.shardFor(orderId);
+            assertEquals(shard, router.shardFor(orderId));
+            counts[shard]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "uneven shard load: " + count);
+        }
+    }
+
+    @Test
+    void addingAShardMovesOnlyItsShareOfOrders() {
+        ShardRouter four = router(4);
+        ShardRouter five = router(5);
+        int moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String orderId = UUID.randomUUID().toString();
+            int before = four.shardFor(orderId);
+            int after = five.shardFor(orderId);
+            if (before != after) {
+                assertEquals(4, after);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > 1_700 && moved < 2_300, "moved " + moved);
+    }
+
+    @Test
+    void bindsShardOnlyForTheDurationOfTheWork() {
+        ShardRouter router = router(3);
+
+        assertEquals(2, router.onShard(2, ShardContext::current));
+        assertNull(ShardContext.current());
+        assertThrows(IllegalArgumentException.class, () -> router.onShard(3, ShardContext::current));
+    }
+
+    private static ShardRouter router(int shards) {
+        List<ShardingProperties.Shard> configured = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            configured.add(new ShardingProperties.Shard("jdbc:postgresql://shard-" + i + "/eventify", "app", "app"));
+        }
+        return new ShardRouter(new ShardingProperties(configured, 2));
+    }
+}
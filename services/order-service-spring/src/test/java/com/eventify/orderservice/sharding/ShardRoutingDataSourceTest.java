@@ -0,0 +1,48 @@
+package com.eventify.orderservice.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShardRoutingDataSourceTest {
+
+    @Mock
+    private DataSource shard0;
+
+    @Mock
+    private DataSource shard1;
+
+    @Mock
+    private Connection connection0;
+
+    @Mock
+    private Connection connection1;
+
+    @Test
+    void routesConnectionsToTheBoundShardAndDefaultsToShardZero() throws Exception {
+        when(shard0.getConnection()).thenReturn(connection0);
+        when(shard1.getConnection()).thenReturn(connection1);
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(List.of(shard0, shard1));
+        ShardRouter router = new ShardRouter(new ShardingProperties(List.of(
+                new ShardingProperties.Shard("jdbc:a", "app", "app"),
+                new ShardingProperties.Shard("jdbc:b", "app", "app")
+        ), 2));
+
+        assertSame(connection0, routing.getConnection());
+        assertSame(connection1, router.onShard(1, () -> {
+            try {
+                return routing.getConnection();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+    }
+}
@@ -1,5 +1,6 @@
 import { Kafka } from 'kafkajs';
 import crypto from 'node:crypto';
+import zlib from 'node:zlib';
 
 const brokers = (process.env.KAFKA_BROKERS ?? 'localhost:9092').split(',');
 const groupId = process.env.KAFKA_GROUP_ID ?? 'payment-service';
@@ -21,6 +22,17 @@ function nowIso() {
   return new Date().toISOString();
 }
 
+function decodeValue(message) {
+  const encoding = message.headers?.['content-encoding']?.toString();
+  if (!encoding) {
+    return message.value.toString('utf-8');
+  }
+  if (encoding !== 'gzip') {
+    throw new Error(`Unsupported content-encoding: ${encoding}`);
+  }
+  return zlib.gunzipSync(message.value).toString('utf-8');
+}
+
 function parseJsonSafe(raw) {
   try {
     return JSON.parse(raw);
@@ -137,7 +149,14 @@ async function run() {
         return;
       }
 
-      const raw = message.value.toString('utf-8');
+      let raw;
+      try {
+        raw = decodeValue(message);
+      } catch (error) {
+        await publishDlq({ raw: message.value.toString('base64') }, `Undecodable payload: ${error.message}`);
+        return;
+      }
+
       const event = parseJsonSafe(raw);
 
       if (!event) {
@@ -1,4 +1,5 @@
 import { Kafka } from 'kafkajs';
+import zlib from 'node:zlib';
 
 const brokers = (process.env.KAFKA_BROKERS ?? 'localhost:9092').split(',');
 const groupId = process.env.KAFKA_GROUP_ID ?? 'read-model-service';
@@ -9,6 +10,17 @@ const consumer = kafka.consumer({ groupId });
 
 let shuttingDown = false;
 
+function decodeValue(message) {
+  const encoding = message.headers?.['content-encoding']?.toString();
+  if (!encoding) {
+    return message.value.toString('utf-8');
+  }
+  if (encoding !== 'gzip') {
+    throw new Error(`Unsupported content-encoding: ${encoding}`);
+  }
+  return zlib.gunzipSync(message.value).toString('utf-8');
+}
+
 function parseJsonSafe(raw) {
   try {
     return JSON.parse(raw);
@@ -59,7 +71,14 @@ async function run() {
         return;
       }
 
-      const event = parseJsonSafe(message.value.toString('utf-8'));
+      let event;
+      try {
+        event = parseJsonSafe(decodeValue(message));
+      } catch (error) {
+        console.error(`[read-model-adapter] skipping undecodable message topic=${topic} error=${error.message}`);
+        return;
+      }
+
       if (!shouldProcess(event)) {
         return;
       }